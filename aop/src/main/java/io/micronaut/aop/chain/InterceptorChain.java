@@ -36,7 +36,6 @@ import org.slf4j.LoggerFactory;
 import java.lang.annotation.Annotation;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  *
@@ -338,32 +337,29 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
             }
         } else {
             instrumentAnnotationMetadata(beanContext, method);
-            final List<AnnotationValue<InterceptorBinding>> applicableBindings
-                    = method.getAnnotationValuesByType(InterceptorBinding.class)
-                    .stream()
-                    .filter(ann ->
-                            ann.enumValue("kind", InterceptorKind.class)
-                                    .orElse(InterceptorKind.AROUND) == interceptorKind)
-                    .collect(Collectors.toList());
-            final Interceptor[] resolvedInterceptors = interceptors.stream()
-                    .filter(beanRegistration -> applicableBindings.stream().anyMatch(annotationValue -> {
-                        // does the annotation metadata contain @InterceptorBinding(interceptorType=SomeInterceptor.class)
-                        // that matches the list of interceptors ?
-                        final boolean isApplicableByType = annotationValue.classValue("interceptorType")
-                                .map(t -> t.isInstance(beanRegistration.getBean())).orElse(false);
-
-                        // does the annotation metadata of the interceptor definition contain
-                        // @InterceptorBinding(SomeAnnotation.class) ?
-                        final boolean isApplicationByBinding = annotationValue.stringValue()
-                                .map(annotationName -> InterceptorBindingQualifier.resolveInterceptorValues(beanRegistration
-                                        .getBeanDefinition()
-                                        .getAnnotationMetadata())
-                                        .contains(annotationName))
-                                .orElse(false);
-                        return isApplicableByType || isApplicationByBinding;
-                    })).sorted(OrderUtil.COMPARATOR)
-                    .map(BeanRegistration::getBean)
-                    .toArray(Interceptor[]::new);
+            // collect the bindings of the method once instead of matching every binding against every interceptor
+            final List<AnnotationValue<InterceptorBinding>> bindings = method.getAnnotationValuesByType(InterceptorBinding.class);
+            final Set<String> bindingNames = new HashSet<>(bindings.size());
+            final List<Class<?>> bindingTypes = new ArrayList<>(bindings.size());
+            for (AnnotationValue<InterceptorBinding> binding : bindings) {
+                if (binding.enumValue("kind", InterceptorKind.class).orElse(InterceptorKind.AROUND) == interceptorKind) {
+                    binding.stringValue().ifPresent(bindingNames::add);
+                    binding.classValue("interceptorType").ifPresent(bindingTypes::add);
+                }
+            }
+            final List<BeanRegistration<Interceptor<?, ?>>> applicable = new ArrayList<>(interceptors.size());
+            if (!bindingNames.isEmpty() || !bindingTypes.isEmpty()) {
+                for (BeanRegistration<Interceptor<?, ?>> beanRegistration : interceptors) {
+                    if (isApplicable(beanRegistration, bindingNames, bindingTypes)) {
+                        applicable.add(beanRegistration);
+                    }
+                }
+            }
+            applicable.sort(OrderUtil.COMPARATOR);
+            final Interceptor[] resolvedInterceptors = new Interceptor[applicable.size()];
+            for (int i = 0; i < resolvedInterceptors.length; i++) {
+                resolvedInterceptors[i] = applicable.get(i).getBean();
+            }
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Resolved {} {} interceptors out of a possible {} for method: {} - {}", resolvedInterceptors.length, interceptorKind, interceptors.size(), method.getDeclaringType(), method.getDescription(true));
                 for (int i = 0; i < resolvedInterceptors.length; i++) {
@@ -375,6 +371,32 @@ public class InterceptorChain<B, R> implements InvocationContext<B, R> {
         }
     }
 
+    /**
+     * @param beanRegistration The interceptor registration
+     * @param bindingNames     The names of the binding annotations of the method
+     * @param bindingTypes     The interceptor types bound to the method
+     * @return Whether the interceptor is bound by type with {@code @InterceptorBinding(interceptorType=..)} or by one
+     * of the binding annotations of its definition
+     */
+    private static boolean isApplicable(BeanRegistration<Interceptor<?, ?>> beanRegistration,
+                                        Set<String> bindingNames,
+                                        List<Class<?>> bindingTypes) {
+        final Interceptor<?, ?> interceptor = beanRegistration.getBean();
+        for (Class<?> bindingType : bindingTypes) {
+            if (bindingType.isInstance(interceptor)) {
+                return true;
+            }
+        }
+        if (!bindingNames.isEmpty()) {
+            for (String annotationName : InterceptorBindingQualifier.resolveInterceptorValues(beanRegistration.getBeanDefinition().getAnnotationMetadata())) {
+                if (bindingNames.contains(annotationName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static void instrumentAnnotationMetadata(BeanContext beanContext, ExecutableMethod<?, ?> method) {
         if (beanContext instanceof ApplicationContext && method instanceof EnvironmentConfigurable) {
             // ensure metadata is environment aware
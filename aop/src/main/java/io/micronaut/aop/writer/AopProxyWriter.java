@@ -516,7 +516,13 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
             proxiedMethodsRefSet.add(methodKey);
             proxyTargetMethods.add(methodKey);
 
-            buildMethodOverride(returnType, methodName, index, argumentTypeList, argumentCount, isVoidReturn);
+            if (interceptedProxyBridgeMethodName != null) {
+                buildMethodOverride(returnType, methodName, index, argumentTypeList, argumentCount, isVoidReturn,
+                        declaringTypeReference, this.isInterface && methodElement.isDefault());
+            } else {
+                buildMethodOverride(returnType, methodName, index, argumentTypeList, argumentCount, isVoidReturn,
+                        null, false);
+            }
         }
     }
 
@@ -526,7 +532,9 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
             int index,
             List<ParameterElement> argumentTypeList,
             int argumentCount,
-            boolean isVoidReturn) {
+            boolean isVoidReturn,
+            @Nullable Type superType,
+            boolean superIsInterface) {
         // override the original method
         String desc = getMethodDescriptor(returnType, argumentTypeList);
         MethodVisitor overridden = classWriter.visitMethod(ACC_PUBLIC, methodName, desc, null, null);
@@ -550,6 +558,20 @@ public class AopProxyWriter extends AbstractClassFileWriter implements ProxyingB
         int interceptorsLocalVar = overriddenMethodGenerator.newLocal(INTERCEPTOR_ARRAY_TYPE);
         overriddenMethodGenerator.storeLocal(interceptorsLocalVar);
 
+        if (superType != null) {
+            // invoke the original method directly if no interceptor applies at runtime
+            // ie if (interceptors.length == 0) return super.method(..);
+            Label interceptedLabel = overriddenMethodGenerator.newLabel();
+            overriddenMethodGenerator.loadLocal(interceptorsLocalVar);
+            overriddenMethodGenerator.arrayLength();
+            overriddenMethodGenerator.ifZCmp(GeneratorAdapter.NE, interceptedLabel);
+            overriddenMethodGenerator.loadThis();
+            overriddenMethodGenerator.loadArgs();
+            overriddenMethodGenerator.visitMethodInsn(INVOKESPECIAL, superType.getInternalName(), methodName, desc, superIsInterface);
+            pushReturnValue(overriddenMethodGenerator, returnType);
+            overriddenMethodGenerator.visitLabel(interceptedLabel);
+        }
+
         // instantiate the MethodInterceptorChain
         // ie InterceptorChain chain = new MethodInterceptorChain(interceptors, this, executableMethod, name);
         overriddenMethodGenerator.newInstance(TYPE_METHOD_INTERCEPTOR_CHAIN);
@@ -0,0 +1,65 @@
+package io.micronaut.aop.around.invocation;
+
+import io.micronaut.aop.around.AroundCompileBenchmark;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time and allocation rate of calls to methods of an around advised bean, complementing the
+ * compilation benchmark in {@link AroundCompileBenchmark}. Run {@link #main(String[])} to report the allocations per
+ * call with the GC profiler.
+ */
+@State(Scope.Benchmark)
+public class AroundInvocationBenchmark {
+
+    ApplicationContext applicationContext;
+    InvocationTarget target;
+    int value;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        target = applicationContext.getBean(InvocationTarget.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int intercepted() {
+        return target.counted(value++);
+    }
+
+    @Benchmark
+    public int withoutApplicableInterceptors() {
+        return target.disabled(value++);
+    }
+
+    @Benchmark
+    public int notAdvised() {
+        return target.plain(value++);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + AroundInvocationBenchmark.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,28 @@
+package io.micronaut.aop.around.invocation;
+
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+
+import javax.inject.Singleton;
+
+/**
+ * Counts the invocations and proceeds without touching the attributes or parameters of the context.
+ */
+@Singleton
+public class CountingInterceptor implements MethodInterceptor<Object, Object> {
+
+    private long count;
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        count++;
+        return context.proceed();
+    }
+
+    /**
+     * @return The number of invocations
+     */
+    public long getCount() {
+        return count;
+    }
+}
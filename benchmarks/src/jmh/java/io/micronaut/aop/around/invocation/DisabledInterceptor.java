@@ -0,0 +1,20 @@
+package io.micronaut.aop.around.invocation;
+
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Requires;
+
+import javax.inject.Singleton;
+
+/**
+ * An interceptor that is only enabled by a property that the benchmark does not set.
+ */
+@Singleton
+@Requires(property = "benchmark.disabled-interceptor.enabled")
+public class DisabledInterceptor implements MethodInterceptor<Object, Object> {
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        return context.proceed();
+    }
+}
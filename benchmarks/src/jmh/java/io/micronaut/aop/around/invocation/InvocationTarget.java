@@ -0,0 +1,36 @@
+package io.micronaut.aop.around.invocation;
+
+import javax.inject.Singleton;
+
+/**
+ * The bean invoked by the benchmark.
+ */
+@Singleton
+public class InvocationTarget {
+
+    /**
+     * @param value The value
+     * @return The value plus one
+     */
+    @Counted
+    public int counted(int value) {
+        return value + 1;
+    }
+
+    /**
+     * @param value The value
+     * @return The value plus one
+     */
+    @Disabled
+    public int disabled(int value) {
+        return value + 1;
+    }
+
+    /**
+     * @param value The value
+     * @return The value plus one
+     */
+    public int plain(int value) {
+        return value + 1;
+    }
+}
@@ -24,6 +24,7 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.time.DayOfWeek;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,12 +32,19 @@ import java.util.Map;
 public class PropertySourcePropertyResolverBenchmark {
 
     Map<String, String> props = new HashMap<>();
+    PropertySourcePropertyResolver resolver;
 
     @Setup
     public void prepare() {
         for (int i = 0; i < 600; i++) {
              props.put(i + "}_A_B_C_D_E_F_G_SERVICE_PORT", "foo");
         }
+        Map<String, Object> values = new HashMap<>();
+        values.put("app.name", "benchmark");
+        values.put("app.port", "8080");
+        values.put("app.day", "MONDAY");
+        resolver = new PropertySourcePropertyResolver(new EnvironmentPropertySource(props));
+        resolver.addPropertySource("app", values);
     }
 
     @Benchmark
@@ -44,6 +52,26 @@ public class PropertySourcePropertyResolverBenchmark {
         new PropertySourcePropertyResolver(new EnvironmentPropertySource(props));
     }
 
+    @Benchmark
+    public Object benchmarkGetStringProperty() {
+        return resolver.getProperty("app.name", String.class);
+    }
+
+    @Benchmark
+    public Object benchmarkGetConvertedProperty() {
+        return resolver.getProperty("app.port", Integer.class);
+    }
+
+    @Benchmark
+    public Object benchmarkGetEnumProperty() {
+        return resolver.getProperty("app.day", DayOfWeek.class);
+    }
+
+    @Benchmark
+    public Object benchmarkGetMissingProperty() {
+        return resolver.getProperty("app.missing", String.class);
+    }
+
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + PropertySourcePropertyResolverBenchmark.class.getSimpleName() + ".*")
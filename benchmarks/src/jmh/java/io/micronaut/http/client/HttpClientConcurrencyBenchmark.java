@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.server.EmbeddedServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of concurrent requests from one client to a local TLS server, over pooled HTTP/1.1
+ * connections and over HTTP/2 connections that carry each request on its own stream. Run {@link #main(String[])}
+ * to print the p99 latency for 1 to 128 concurrent requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HttpClientConcurrencyBenchmark {
+
+    @Param({"1.1", "2.0"})
+    String httpVersion;
+
+    private EmbeddedServer server;
+    private RxHttpClient client;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("micronaut.ssl.enabled", true);
+        properties.put("micronaut.ssl.buildSelfSigned", true);
+        properties.put("micronaut.ssl.port", -1);
+        properties.put("micronaut.server.http-version", "2.0");
+        properties.put("micronaut.http.client.http-version", httpVersion);
+        properties.put("micronaut.http.client.pool.enabled", true);
+        server = ApplicationContext.run(EmbeddedServer.class, properties);
+        client = server.getApplicationContext().createBean(RxHttpClient.class, server.getURL());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public String retrieve() {
+        return client.retrieve("/concurrency").blockingFirst();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Map<String, Double> p99 = new HashMap<>();
+        for (int threads = 1; threads <= 128; threads *= 2) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + HttpClientConcurrencyBenchmark.class.getSimpleName() + ".*")
+                    .threads(threads)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .forks(1)
+                    .build();
+
+            for (RunResult result : new Runner(opt).run()) {
+                String httpVersion = result.getParams().getParam("httpVersion");
+                p99.put(httpVersion + " " + threads, result.getPrimaryResult().getStatistics().getPercentile(99));
+            }
+        }
+        System.out.println("Concurrency  HTTP/1.1 p99 (us)  HTTP/2 p99 (us)");
+        for (int threads = 1; threads <= 128; threads *= 2) {
+            System.out.printf("%11d  %16.1f  %15.1f%n", threads, p99.get("1.1 " + threads), p99.get("2.0 " + threads));
+        }
+    }
+}
@@ -31,4 +31,12 @@ public class StartupBenchmark {
                     context.getBean(TestController.class);
         }
     }
+
+    @Benchmark
+    public void parallelStartup() {
+        try (ApplicationContext context = ApplicationContext.builder().parallelStartup(true).start()) {
+            final TestController controller =
+                    context.getBean(TestController.class);
+        }
+    }
 }
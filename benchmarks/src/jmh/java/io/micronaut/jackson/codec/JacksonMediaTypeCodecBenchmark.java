@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.jackson.codec;
+
+import io.micronaut.buffer.netty.NettyByteBufferFactory;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.core.type.Argument;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares decoding a direct Netty buffer with {@link JacksonMediaTypeCodec} against copying it to a byte array first,
+ * and encoding into a pooled buffer against encoding to a byte array.
+ */
+@State(Scope.Benchmark)
+public class JacksonMediaTypeCodecBenchmark {
+
+    private static final Argument<List<Item>> ITEMS = Argument.listOf(Item.class);
+    private static final NettyByteBufferFactory BUFFER_FACTORY = new NettyByteBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    @Param({"1024", "102400", "5242880"})
+    int payloadSize;
+
+    ApplicationContext applicationContext;
+    JsonMediaTypeCodec codec;
+    ByteBuffer<ByteBuf> buffer;
+    List<Item> items;
+
+    @Setup
+    public void setup() {
+        applicationContext = ApplicationContext.run();
+        codec = applicationContext.getBean(JsonMediaTypeCodec.class);
+        StringBuilder json = new StringBuilder("[");
+        items = new ArrayList<>();
+        while (json.length() < payloadSize) {
+            Item item = new Item();
+            item.setName("item-" + items.size());
+            item.setValue(items.size());
+            items.add(item);
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(item.getName()).append("\",\"value\":").append(item.getValue()).append('}');
+        }
+        json.append(']');
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        buffer = BUFFER_FACTORY.wrap(PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length).writeBytes(bytes));
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.asNativeBuffer().release();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Item> decodeBuffer() {
+        return codec.decode(ITEMS, buffer);
+    }
+
+    @Benchmark
+    public List<Item> decodeCopiedBytes() {
+        return codec.decode(ITEMS, buffer.toByteArray());
+    }
+
+    @Benchmark
+    public int encodeBuffer() {
+        ByteBuf encoded = codec.encode(items, BUFFER_FACTORY).asNativeBuffer();
+        int length = encoded.readableBytes();
+        encoded.release();
+        return length;
+    }
+
+    @Benchmark
+    public int encodeCopiedBytes() {
+        ByteBuf encoded = BUFFER_FACTORY.copiedBuffer(codec.encode(items)).asNativeBuffer();
+        int length = encoded.readableBytes();
+        encoded.release();
+        return length;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(".*" + JacksonMediaTypeCodecBenchmark.class.getSimpleName() + ".*")
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    /**
+     * An element of the benchmark payload.
+     */
+    public static class Item {
+        private String name;
+        private int value;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+}
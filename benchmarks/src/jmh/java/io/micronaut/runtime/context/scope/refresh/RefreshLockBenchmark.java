@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compares the read path of the {@link RefreshInterceptor} with the {@link StripedReadWriteLock} against a
+ * {@link ReentrantReadWriteLock} shared by all threads. Run {@link #main(String[])} to measure 1 to 64 threads.
+ */
+@State(Scope.Benchmark)
+public class RefreshLockBenchmark {
+
+    private final ReadWriteLock reentrantLock = new ReentrantReadWriteLock();
+    private final ReadWriteLock stripedLock = new StripedReadWriteLock();
+
+    @Benchmark
+    public void reentrantReadLock(Blackhole blackhole) {
+        read(reentrantLock, blackhole);
+    }
+
+    @Benchmark
+    public void stripedReadLock(Blackhole blackhole) {
+        read(stripedLock, blackhole);
+    }
+
+    private static void read(ReadWriteLock readWriteLock, Blackhole blackhole) {
+        Lock lock = readWriteLock.readLock();
+        lock.lock();
+        try {
+            Blackhole.consumeCPU(10);
+            blackhole.consume(lock);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Options opt = new OptionsBuilder()
+                    .include(".*" + RefreshLockBenchmark.class.getSimpleName() + ".*")
+                    .threads(threads)
+                    .warmupIterations(3)
+                    .measurementIterations(5)
+                    .forks(1)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
@@ -213,6 +213,11 @@ public class Micronaut extends DefaultApplicationContextBuilder implements Appli
         return (Micronaut) super.environmentPropertySource(environmentPropertySource);
     }
 
+    @Override
+    public @NonNull Micronaut parallelStartup(boolean parallelStartup) {
+        return (Micronaut) super.parallelStartup(parallelStartup);
+    }
+
     @Override
     public @NonNull Micronaut environmentVariableIncludes(@Nullable String... environmentVariables) {
         return (Micronaut) super.environmentVariableIncludes(environmentVariables);
@@ -46,7 +46,6 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Implementation of {@link Refreshable}.
@@ -90,7 +89,7 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
         BeanRegistration beanRegistration = refreshableBeans.computeIfAbsent(identifier.toString(), key -> {
             T bean = provider.get();
             BeanRegistration registration = new BeanRegistration(identifier, beanDefinition, bean);
-            locks.putIfAbsent(registration.getBean(), new ReentrantReadWriteLock());
+            locks.putIfAbsent(registration.getBean(), new StripedReadWriteLock());
             return registration;
         });
         return (T) beanRegistration.getBean();
@@ -216,8 +215,8 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
             BeanDefinition definition = registration.getBeanDefinition();
 
             Lock lock = getLock(bean).writeLock();
+            lock.lock();
             try {
-                lock.lock();
                 if (definition instanceof DisposableBeanDefinition) {
                     ((DisposableBeanDefinition) definition).dispose(beanContext, bean);
                 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.runtime.context.scope.refresh;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ReadWriteLock} that is optimized for many concurrent readers and rare writers. Each thread counts its read
+ * holds in one of several stripes that are padded to separate cache lines, so readers on different cores do not
+ * contend with each other. The writer locks every stripe once no reader holds it. While a writer waits, threads that
+ * do not already hold the read lock wait for it, so that a steady stream of readers cannot starve the writer.
+ *
+ * <p>There are at most {@value #MAX_STRIPES} stripes of 128 bytes each, so a lock takes at most 2KB however many
+ * processors the machine has. Beyond that, the stripes of the readers no longer fit the cores that run them anyway.</p>
+ *
+ * <p>Read holds are reentrant, even while a writer waits, and the thread holding the write lock may also acquire the read
+ * lock. A thread holding the read lock must not acquire the write lock. Conditions are not
+ * supported.</p>
+ *
+ * @since 2.5.12
+ */
+@Internal
+final class StripedReadWriteLock implements ReadWriteLock {
+
+    /**
+     * The number of longs between two stripes, so that each stripe has its own 128 byte region.
+     */
+    private static final int PADDING = 16;
+    private static final int MAX_STRIPES = 16;
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+    private static final long WRITE_LOCKED = Long.MIN_VALUE / 2;
+    private static final long SPIN_PARK_NANOS = 1000;
+
+    private final AtomicLongArray counts = new AtomicLongArray(STRIPES * PADDING);
+    // the read holds of each thread, so that reentrant reads are not blocked by a waiting writer
+    private final ThreadLocal<int[]> readHolds = ThreadLocal.withInitial(() -> new int[1]);
+    private volatile boolean writerPending;
+    private final ReentrantLock writer = new ReentrantLock();
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    private static int stripes(int processors) {
+        int stripes = 1;
+        while (stripes < processors && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & (STRIPES - 1)) * PADDING;
+    }
+
+    /**
+     * @param stripe The stripe of the current thread
+     * @return Whether the read lock was acquired
+     */
+    private boolean tryAcquireShared(int stripe) {
+        int[] holds = readHolds.get();
+        if (holds[0] > 0 || writer.isHeldByCurrentThread()) {
+            // the stripe of a thread that holds a read lock is never locked by a writer
+            counts.incrementAndGet(stripe);
+            holds[0]++;
+            return true;
+        }
+        if (writerPending) {
+            return false;
+        }
+        if (counts.incrementAndGet(stripe) > 0) {
+            holds[0]++;
+            return true;
+        }
+        // the stripe is locked by a writer
+        counts.decrementAndGet(stripe);
+        return false;
+    }
+
+    private void releaseShared() {
+        int[] holds = readHolds.get();
+        if (holds[0] == 0) {
+            throw new IllegalMonitorStateException();
+        }
+        holds[0]--;
+        counts.decrementAndGet(stripe());
+    }
+
+    /**
+     * Locks the stripes of the readers. The caller holds {@link #writer}.
+     *
+     * @param deadline The {@link System#nanoTime()} to give up at or {@link Long#MAX_VALUE} to wait indefinitely
+     * @return Whether every stripe was locked before the deadline
+     */
+    private boolean acquireStripes(long deadline) {
+        writerPending = true;
+        for (int i = 0; i < STRIPES * PADDING; i += PADDING) {
+            while (!counts.compareAndSet(i, 0, WRITE_LOCKED)) {
+                if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+                    for (int j = 0; j < i; j += PADDING) {
+                        counts.addAndGet(j, -WRITE_LOCKED);
+                    }
+                    writerPending = false;
+                    return false;
+                }
+                LockSupport.parkNanos(SPIN_PARK_NANOS);
+            }
+        }
+        return true;
+    }
+
+    private void releaseStripes() {
+        for (int i = 0; i < STRIPES * PADDING; i += PADDING) {
+            // readers that backed off in the meantime may have left their count in the stripe
+            counts.addAndGet(i, -WRITE_LOCKED);
+        }
+        writerPending = false;
+    }
+
+    /**
+     * The read lock.
+     */
+    private final class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            int stripe = stripe();
+            while (!tryAcquireShared(stripe)) {
+                // wait for the writer to finish
+                writer.lock();
+                writer.unlock();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            int stripe = stripe();
+            while (!tryAcquireShared(stripe)) {
+                writer.lockInterruptibly();
+                writer.unlock();
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            return tryAcquireShared(stripe());
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            int stripe = stripe();
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            while (!tryAcquireShared(stripe)) {
+                if (!writer.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+                writer.unlock();
+            }
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            releaseShared();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by the read lock");
+        }
+    }
+
+    /**
+     * The write lock.
+     */
+    private final class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            writer.lock();
+            if (writer.getHoldCount() == 1) {
+                acquireStripes(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            writer.lockInterruptibly();
+            if (writer.getHoldCount() == 1) {
+                acquireStripes(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            return writer.tryLock() && acquireStripesOrUnlock(System.nanoTime());
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            return writer.tryLock(time, unit) && acquireStripesOrUnlock(deadline);
+        }
+
+        private boolean acquireStripesOrUnlock(long deadline) {
+            if (writer.getHoldCount() > 1 || acquireStripes(deadline)) {
+                return true;
+            }
+            writer.unlock();
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            if (!writer.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException();
+            }
+            try {
+                if (writer.getHoldCount() == 1) {
+                    releaseStripes();
+                }
+            } finally {
+                writer.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by the write lock");
+        }
+    }
+}
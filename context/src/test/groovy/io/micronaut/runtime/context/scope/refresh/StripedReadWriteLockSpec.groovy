@@ -0,0 +1,161 @@
+package io.micronaut.runtime.context.scope.refresh
+
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.locks.Lock
+
+class StripedReadWriteLockSpec extends Specification {
+
+    void "test read holds are reentrant and block the writer"() {
+        given:
+        StripedReadWriteLock lock = new StripedReadWriteLock()
+        Lock readLock = lock.readLock()
+        Lock writeLock = lock.writeLock()
+
+        when:
+        readLock.lock()
+        readLock.lock()
+
+        then:
+        !tryWriteLock(writeLock)
+
+        when:
+        readLock.unlock()
+
+        then:
+        !tryWriteLock(writeLock)
+
+        when:
+        readLock.unlock()
+
+        then:
+        tryWriteLock(writeLock)
+    }
+
+    void "test readers wait for the writer"() {
+        given:
+        StripedReadWriteLock lock = new StripedReadWriteLock()
+        CountDownLatch acquired = new CountDownLatch(1)
+
+        when:
+        lock.writeLock().lock()
+        Thread reader = Thread.start {
+            lock.readLock().lock()
+            acquired.countDown()
+            lock.readLock().unlock()
+        }
+
+        then:
+        !acquired.await(100, TimeUnit.MILLISECONDS)
+
+        when:
+        lock.writeLock().unlock()
+
+        then:
+        acquired.await(5, TimeUnit.SECONDS)
+
+        cleanup:
+        reader.join()
+    }
+
+    void "test the writer may acquire the read lock"() {
+        given:
+        StripedReadWriteLock lock = new StripedReadWriteLock()
+
+        when:
+        lock.writeLock().lock()
+        lock.readLock().lock()
+        lock.writeLock().unlock()
+
+        then:
+        !tryWriteLock(lock.writeLock())
+
+        when:
+        lock.readLock().unlock()
+
+        then:
+        tryWriteLock(lock.writeLock())
+    }
+
+    void "test a steady stream of readers does not starve the writer"() {
+        given:
+        StripedReadWriteLock lock = new StripedReadWriteLock()
+        AtomicBoolean running = new AtomicBoolean(true)
+        CountDownLatch reading = new CountDownLatch(4)
+        List<Thread> readers = (1..4).collect {
+            Thread.start {
+                reading.countDown()
+                while (running.get()) {
+                    lock.readLock().lock()
+                    try {
+                        // overlap the read holds of the other readers
+                        Thread.sleep(1)
+                    } finally {
+                        lock.readLock().unlock()
+                    }
+                }
+            }
+        }
+        reading.await()
+
+        expect:
+        lock.writeLock().tryLock(5, TimeUnit.SECONDS)
+
+        when:
+        lock.readLock().lock()
+        lock.readLock().lock()
+        lock.readLock().unlock()
+        lock.readLock().unlock()
+        lock.writeLock().unlock()
+
+        then:
+        noExceptionThrown()
+
+        cleanup:
+        running.set(false)
+        readers*.join()
+    }
+
+    void "test reentrant reads are not blocked by a waiting writer"() {
+        given:
+        StripedReadWriteLock lock = new StripedReadWriteLock()
+        CountDownLatch locked = new CountDownLatch(1)
+
+        when:
+        lock.readLock().lock()
+        Thread writer = Thread.start {
+            lock.writeLock().lock()
+            locked.countDown()
+            lock.writeLock().unlock()
+        }
+        Thread.sleep(50)
+
+        then:
+        lock.readLock().tryLock()
+        locked.count == 1
+
+        when:
+        lock.readLock().unlock()
+        lock.readLock().unlock()
+
+        then:
+        locked.await(5, TimeUnit.SECONDS)
+
+        cleanup:
+        writer.join()
+    }
+
+    private static boolean tryWriteLock(Lock writeLock) {
+        boolean locked
+        Thread.start {
+            locked = writeLock.tryLock()
+            if (locked) {
+                writeLock.unlock()
+            }
+        }.join()
+        return locked
+    }
+}
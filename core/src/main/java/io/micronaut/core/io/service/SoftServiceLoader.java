@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
@@ -281,6 +282,7 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
         private final ClassLoader classLoader;
         private final Predicate<S> predicate;
         private final List<RecursiveActionValuesCollector<S>> tasks = new LinkedList<>();
+        private final Map<String, ServiceInstanceLoader<S>> instanceLoaders = new ConcurrentHashMap<>();
 
         public ServicesLoader(String serviceName, Predicate<String> lineCondition, ClassLoader classLoader, Predicate<S> predicate) {
             this.serviceName = serviceName;
@@ -295,7 +297,7 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
                 Enumeration<URL> serviceConfigs = classLoader.getResources(META_INF_SERVICES + '/' + serviceName);
                 while (serviceConfigs.hasMoreElements()) {
                     URL url = serviceConfigs.nextElement();
-                    UrlServicesLoader<S> task = new UrlServicesLoader<>(url, lineCondition, classLoader, predicate);
+                    UrlServicesLoader<S> task = new UrlServicesLoader<>(url, lineCondition, classLoader, predicate, instanceLoaders);
                     tasks.add(task);
                     task.fork();
                 }
@@ -323,13 +325,15 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
         private final Predicate<String> lineCondition;
         private final ClassLoader classLoader;
         private final Predicate<S> predicate;
+        private final Map<String, ServiceInstanceLoader<S>> instanceLoaders;
         private final List<ServiceInstanceLoader<S>> tasks = new LinkedList<>();
 
-        public UrlServicesLoader(URL url, Predicate<String> lineCondition, ClassLoader classLoader, Predicate<S> predicate) {
+        public UrlServicesLoader(URL url, Predicate<String> lineCondition, ClassLoader classLoader, Predicate<S> predicate, Map<String, ServiceInstanceLoader<S>> instanceLoaders) {
             this.url = url;
             this.lineCondition = lineCondition;
             this.classLoader = classLoader;
             this.predicate = predicate;
+            this.instanceLoaders = instanceLoaders;
         }
 
         @Override
@@ -351,9 +355,17 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
                         if (i > -1) {
                             line = line.substring(0, i);
                         }
-                        ServiceInstanceLoader<S> task = new ServiceInstanceLoader<>(line, classLoader, predicate);
+                        // a service listed by several resources is only loaded once
+                        ServiceInstanceLoader<S> task = instanceLoaders.get(line);
+                        if (task == null) {
+                            ServiceInstanceLoader<S> newTask = new ServiceInstanceLoader<>(line, classLoader, predicate);
+                            task = instanceLoaders.putIfAbsent(line, newTask);
+                            if (task == null) {
+                                task = newTask;
+                                task.fork();
+                            }
+                        }
                         tasks.add(task);
-                        task.fork();
                     }
                 }
             } catch (IOException | UncheckedIOException e) {
@@ -382,6 +394,7 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
         private final Predicate<S> predicate;
         private S result;
         private Throwable throwable;
+        private boolean collected;
 
         public ServiceInstanceLoader(String className, ClassLoader classLoader, Predicate<S> predicate) {
             this.className = className;
@@ -408,7 +421,9 @@ public final class SoftServiceLoader<S> implements Iterable<ServiceDefinition<S>
             if (throwable != null) {
                 throw new RuntimeException("Failed to load a service: " + throwable.getMessage(), throwable);
             }
-            if (result != null) {
+            // the values are collected by a single thread in the order the services are first listed
+            if (result != null && !collected) {
+                collected = true;
                 values.add(result);
             }
         }
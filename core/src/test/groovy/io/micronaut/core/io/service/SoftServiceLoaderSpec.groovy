@@ -0,0 +1,36 @@
+package io.micronaut.core.io.service
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class SoftServiceLoaderSpec extends Specification {
+
+    void "test a service listed by several resources is collected once"() {
+        given:
+        Path first = serviceDirectory("java.util.ArrayList\njava.util.LinkedList\n")
+        Path second = serviceDirectory("java.util.LinkedList\njava.util.Vector\n")
+        URLClassLoader classLoader = new URLClassLoader([first.toUri().toURL(), second.toUri().toURL()] as URL[], (ClassLoader) null)
+
+        when:
+        List<List> services = []
+        SoftServiceLoader.load(List, classLoader).collectAll(services)
+
+        then:
+        services*.getClass() == [ArrayList, LinkedList, Vector]
+
+        cleanup:
+        classLoader.close()
+        first.toFile().deleteDir()
+        second.toFile().deleteDir()
+    }
+
+    private static Path serviceDirectory(String services) {
+        Path directory = Files.createTempDirectory("services")
+        Path file = directory.resolve("META-INF/services/java.util.List")
+        Files.createDirectories(file.parent)
+        file.text = services
+        return directory
+    }
+}
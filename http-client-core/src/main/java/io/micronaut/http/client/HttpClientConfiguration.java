@@ -94,6 +94,13 @@ public abstract class HttpClientConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final boolean DEFAULT_EXCEPTION_ON_ERROR_STATUS = true;
 
+    /**
+     * The default maximum size of the response cache in bytes.
+     * @since 2.5.12
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_RESPONSE_CACHE_MAX_SIZE = 1024 * 1024 * 10; // 10MiB;
+
     private static RxHttpClientFactory clientFactory = null;
 
     private Map<String, Object> channelOptions = Collections.emptyMap();
@@ -147,6 +154,16 @@ public abstract class HttpClientConfiguration {
 
     private LogLevel logLevel;
 
+    private DnsResolutionMode dnsResolutionMode = DnsResolutionMode.DEFAULT;
+
+    private Duration dnsMaxTtl;
+
+    private Duration dnsNegativeTtl;
+
+    private boolean responseCacheEnabled;
+
+    private int responseCacheMaxSize = DEFAULT_RESPONSE_CACHE_MAX_SIZE;
+
     /**
      * Default constructor.
      */
@@ -193,6 +210,11 @@ public abstract class HttpClientConfiguration {
             this.sslConfiguration = copy.sslConfiguration;
             this.threadFactory = copy.threadFactory;
             this.httpVersion = copy.httpVersion;
+            this.dnsResolutionMode = copy.dnsResolutionMode;
+            this.dnsMaxTtl = copy.dnsMaxTtl;
+            this.dnsNegativeTtl = copy.dnsNegativeTtl;
+            this.responseCacheEnabled = copy.responseCacheEnabled;
+            this.responseCacheMaxSize = copy.responseCacheMaxSize;
         }
     }
 
@@ -230,6 +252,103 @@ public abstract class HttpClientConfiguration {
         this.logLevel = logLevel;
     }
 
+    /**
+     * @return How host names are resolved. Defaults to {@link DnsResolutionMode#DEFAULT}.
+     * @since 2.5.12
+     */
+    public @NonNull DnsResolutionMode getDnsResolutionMode() {
+        return dnsResolutionMode;
+    }
+
+    /**
+     * Sets how host names are resolved. Defaults to {@link DnsResolutionMode#DEFAULT}.
+     *
+     * @param dnsResolutionMode The DNS resolution mode
+     * @since 2.5.12
+     */
+    public void setDnsResolutionMode(@Nullable DnsResolutionMode dnsResolutionMode) {
+        if (dnsResolutionMode != null) {
+            this.dnsResolutionMode = dnsResolutionMode;
+        }
+    }
+
+    /**
+     * @return The maximum time resolved addresses are cached for when resolving asynchronously. Defaults to the TTL
+     * of the DNS records.
+     * @since 2.5.12
+     */
+    public Optional<Duration> getDnsMaxTtl() {
+        return Optional.ofNullable(dnsMaxTtl);
+    }
+
+    /**
+     * Sets the maximum time resolved addresses are cached for when resolving asynchronously. Defaults to the TTL of
+     * the DNS records.
+     *
+     * @param dnsMaxTtl The maximum TTL
+     * @since 2.5.12
+     */
+    public void setDnsMaxTtl(@Nullable Duration dnsMaxTtl) {
+        this.dnsMaxTtl = dnsMaxTtl;
+    }
+
+    /**
+     * @return The time failed lookups are cached for when resolving asynchronously. Defaults to not caching them.
+     * @since 2.5.12
+     */
+    public Optional<Duration> getDnsNegativeTtl() {
+        return Optional.ofNullable(dnsNegativeTtl);
+    }
+
+    /**
+     * Sets the time failed lookups are cached for when resolving asynchronously. Defaults to not caching them.
+     *
+     * @param dnsNegativeTtl The negative TTL
+     * @since 2.5.12
+     */
+    public void setDnsNegativeTtl(@Nullable Duration dnsNegativeTtl) {
+        this.dnsNegativeTtl = dnsNegativeTtl;
+    }
+
+    /**
+     * @return Whether responses to {@code GET} requests are cached according to their {@code Cache-Control},
+     * {@code Expires} and {@code ETag} headers. Defaults to {@code false}.
+     * @since 2.5.12
+     */
+    public boolean isResponseCacheEnabled() {
+        return responseCacheEnabled;
+    }
+
+    /**
+     * Sets whether responses to {@code GET} requests are cached according to their {@code Cache-Control},
+     * {@code Expires} and {@code ETag} headers. Defaults to {@code false}.
+     *
+     * @param responseCacheEnabled Whether to cache responses
+     * @since 2.5.12
+     */
+    public void setResponseCacheEnabled(boolean responseCacheEnabled) {
+        this.responseCacheEnabled = responseCacheEnabled;
+    }
+
+    /**
+     * @return The maximum number of bytes of cached responses the client holds in memory
+     * @since 2.5.12
+     */
+    public int getResponseCacheMaxSize() {
+        return responseCacheMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of cached responses the client holds in memory. The least recently used
+     * responses are evicted first. Default value ({@value io.micronaut.http.client.HttpClientConfiguration#DEFAULT_RESPONSE_CACHE_MAX_SIZE} => 10MB).
+     *
+     * @param responseCacheMaxSize The maximum size of the response cache
+     * @since 2.5.12
+     */
+    public void setResponseCacheMaxSize(@ReadableBytes int responseCacheMaxSize) {
+        this.responseCacheMaxSize = responseCacheMaxSize;
+    }
+
     /**
      * @return The event loop group to use.
      */
@@ -717,6 +836,26 @@ public abstract class HttpClientConfiguration {
         throw new IllegalStateException("No RxHttpClientFactory present on classpath, cannot create HTTP client");
     }
 
+    /**
+     * How the client resolves host names.
+     *
+     * @since 2.5.12
+     */
+    public enum DnsResolutionMode {
+        /**
+         * Resolves host names with the blocking resolver of the JDK.
+         */
+        DEFAULT,
+        /**
+         * Resolves host names without blocking and caches the addresses for the TTL of the DNS records.
+         */
+        ASYNC,
+        /**
+         * Like {@link #ASYNC}, but rotates through the addresses returned for a host name.
+         */
+        ROUND_ROBIN
+    }
+
     /**
      * Configuration for the HTTP client connnection pool.
      */
@@ -767,6 +906,8 @@ public abstract class HttpClientConfiguration {
 
         /**
          * The maximum number of connections. Defaults to ({@value io.micronaut.http.client.HttpClientConfiguration.ConnectionPoolConfiguration#DEFAULT_MAXCONNECTIONS}); no maximum.
+         * With HTTP/2 this is the maximum number of connections per origin, each carrying as many concurrent requests
+         * as the server allows.
          *
          * @return The max connections
          */
@@ -19,6 +19,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.http.client.loadbalance.LoadBalancingStrategy;
 import io.micronaut.http.context.ClientContextPathProvider;
 import io.micronaut.http.ssl.SslConfiguration;
 import io.micronaut.runtime.ApplicationConfiguration;
@@ -73,6 +74,7 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
     private boolean healthCheck = DEFAULT_HEALTHCHECK;
     private Duration healthCheckInterval = Duration.ofSeconds(DEFAULT_HEALTHCHECKINTERVAL_SECONDS);
     private String path;
+    private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.ROUND_ROBIN;
 
     /**
      * Creates a new client configuration for the given service ID.
@@ -243,6 +245,28 @@ public class ServiceHttpClientConfiguration extends HttpClientConfiguration impl
         }
     }
 
+    /**
+     * The strategy to select an instance of the service with.
+     *
+     * @return The load balancing strategy
+     * @since 2.5.12
+     */
+    public LoadBalancingStrategy getLoadBalancingStrategy() {
+        return loadBalancingStrategy;
+    }
+
+    /**
+     * Sets the strategy to select an instance of the service with. Defaults to {@link LoadBalancingStrategy#ROUND_ROBIN}.
+     *
+     * @param loadBalancingStrategy The load balancing strategy
+     * @since 2.5.12
+     */
+    public void setLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+        if (loadBalancingStrategy != null) {
+            this.loadBalancingStrategy = loadBalancingStrategy;
+        }
+    }
+
     @Override
     public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
         return connectionPoolConfiguration;
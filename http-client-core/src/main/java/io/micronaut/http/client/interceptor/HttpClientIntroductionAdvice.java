@@ -20,10 +20,12 @@ import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.BootstrapContextCompatible;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.async.subscriber.CompletionAwareSubscriber;
 import io.micronaut.core.beans.BeanMap;
@@ -51,8 +53,10 @@ import io.micronaut.http.client.sse.SseClient;
 import io.micronaut.http.sse.Event;
 import io.micronaut.http.uri.UriBuilder;
 import io.micronaut.http.uri.UriMatchTemplate;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.jackson.codec.JsonMediaTypeCodec;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -78,7 +82,7 @@ import java.util.function.Supplier;
 @Singleton
 @Internal
 @BootstrapContextCompatible
-public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, Object> {
+public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, Object>, ApplicationEventListener<RefreshEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpClientIntroductionAdvice.class);
 
@@ -91,6 +95,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
     private static final int ATTRIBUTES_INITIAL_CAPACITY = 1;
     private final BeanContext beanContext;
     private final Map<String, ClientVersioningConfiguration> versioningConfigurations = new ConcurrentHashMap<>(5);
+    private final Map<ExecutableMethod<?, ?>, RequestPlan> requestPlans = new ConcurrentHashMap<>(20);
     private final List<ReactiveClientResultTransformer> transformers;
     private final HttpClientBinderRegistry binderRegistry;
     private final JsonMediaTypeCodec jsonMediaTypeCodec;
@@ -142,80 +147,28 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
         HttpClient httpClient = clientFactory.getClient(annotationMetadata);
         if (context.hasStereotype(HttpMethodMapping.class) && httpClient != null) {
-            AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
-            String uri = mapping.getRequiredValue(String.class);
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-            HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
-            String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
-            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", httpMethodName);
-
-
-            UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
-            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-                uriTemplate = uriTemplate.nest(uri);
+            RequestPlan plan = requestPlans.get(context.getExecutableMethod());
+            if (plan == null) {
+                plan = newRequestPlan(context, httpMethodMapping.get());
+                requestPlans.put(context.getExecutableMethod(), plan);
             }
+            HttpMethod httpMethod = plan.httpMethod;
+            MutableHttpRequest<?> request = HttpRequest.create(httpMethod, "", plan.httpMethodName);
 
+            UriMatchTemplate uriTemplate = plan.uriTemplate;
             Map<String, Object> paramMap = context.getParameterValueMap();
-            Map<String, String> queryParams = new LinkedHashMap<>();
-            List<String> uriVariables = uriTemplate.getVariableNames();
+            Map<String, String> queryParams = new LinkedHashMap<>(plan.queryParams);
+            List<String> uriVariables = plan.uriVariables;
             Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
-            Argument[] arguments = context.getArguments();
-
-
-            Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
-
-            List<AnnotationValue<Header>> headerAnnotations = context.getAnnotationValuesByType(Header.class);
-            for (AnnotationValue<Header> headerAnnotation : headerAnnotations) {
-                String headerName = headerAnnotation.stringValue("name").orElse(null);
-                String headerValue = headerAnnotation.stringValue().orElse(null);
-                if (StringUtils.isNotEmpty(headerName) && StringUtils.isNotEmpty(headerValue)) {
-                    headers.putIfAbsent(headerName, headerValue);
-                }
-            }
-
-            context.findAnnotation(Version.class)
-                    .flatMap(AnnotationValue::stringValue)
-                    .filter(StringUtils::isNotEmpty)
-                    .ifPresent(version -> {
-
-                        ClientVersioningConfiguration configuration = getVersioningConfiguration(annotationMetadata);
-
-                        configuration.getHeaders()
-                                .forEach(header -> headers.put(header, version));
-
-                        configuration.getParameters()
-                                .forEach(parameter -> queryParams.put(parameter, version));
-                    });
-
-            Map<String, Object> attributes = new LinkedHashMap<>(ATTRIBUTES_INITIAL_CAPACITY);
-
-            List<AnnotationValue<RequestAttribute>> attributeAnnotations = context.getAnnotationValuesByType(RequestAttribute.class);
-            for (AnnotationValue<RequestAttribute> attributeAnnotation : attributeAnnotations) {
-                String attributeName = attributeAnnotation.stringValue("name").orElse(null);
-                Object attributeValue = attributeAnnotation.getValue(Object.class).orElse(null);
-                if (StringUtils.isNotEmpty(attributeName) && attributeValue != null) {
-                    attributes.put(attributeName, attributeValue);
-                }
-            }
-
-            ConversionService<?> conversionService = ConversionService.SHARED;
 
             ClientRequestUriContext uriContext = new ClientRequestUriContext(uriTemplate, paramMap, queryParams);
 
-            if (!headers.isEmpty()) {
-                for (Map.Entry<String, String> entry : headers.entrySet()) {
-                    request.header(entry.getKey(), entry.getValue());
-                }
+            for (Map.Entry<String, String> entry : plan.headers.entrySet()) {
+                request.header(entry.getKey(), entry.getValue());
             }
 
-            if (!attributes.isEmpty()) {
-                for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                    request.setAttribute(entry.getKey(), entry.getValue());
-                }
+            for (Map.Entry<String, Object> entry : plan.attributes.entrySet()) {
+                request.setAttribute(entry.getKey(), entry.getValue());
             }
 
             List<Argument> bodyArguments = new ArrayList<>();
@@ -225,19 +178,16 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 }
             };
 
-            for (Argument argument : arguments) {
-                Object definedValue = getValue(argument, context, parameters, paramMap);
+            for (ArgumentPlan argumentPlan : plan.arguments) {
+                Argument<Object> argument = argumentPlan.argument;
+                Object definedValue = getValue(argumentPlan, context, parameters, paramMap);
 
-                if (argument.getAnnotationMetadata().hasStereotype(Bindable.class)) {
-                    argument.getAnnotationMetadata().stringValue(Bindable.class).ifPresent(name -> {
-                        paramMap.remove(argument.getName());
-                        paramMap.put(name, definedValue);
-                    });
+                if (argumentPlan.bindableName != null) {
+                    paramMap.remove(argument.getName());
+                    paramMap.put(argumentPlan.bindableName, definedValue);
                 }
                 if (definedValue != null) {
-                    final ClientArgumentRequestBinder<Object> binder = (ClientArgumentRequestBinder<Object>) binderRegistry
-                            .findArgumentBinder((Argument<Object>) argument)
-                            .orElse(defaultBinder);
+                    final ClientArgumentRequestBinder<Object> binder = argumentPlan.binder != null ? argumentPlan.binder : defaultBinder;
                     binder.bind(ConversionContext.of(argument), uriContext, definedValue, request);
                 }
             }
@@ -286,39 +236,26 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                 body = null;
             }
 
-            uri = uriTemplate.expand(paramMap);
+            String uri = uriTemplate.expand(paramMap);
             uriVariables.forEach(queryParams::remove);
 
             request.uri(URI.create(appendQuery(uri, queryParams)));
 
             if (body != null && !request.getContentType().isPresent()) {
-                MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
-                if (ArrayUtils.isEmpty(contentTypes)) {
-                    contentTypes = DEFAULT_ACCEPT_TYPES;
-                }
-                if (ArrayUtils.isNotEmpty(contentTypes)) {
-                    request.contentType(contentTypes[0]);
-                }
+                request.contentType(plan.contentType);
             }
 
             request.setAttribute(HttpAttributes.INVOCATION_CONTEXT, context);
             // Set the URI template used to make the request for tracing purposes
-            request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(annotationMetadata, uriTemplate.toString()));
-            String serviceId = getClientId(annotationMetadata);
-            Argument<?> errorType = annotationMetadata.classValue(Client.class, "errorType")
-                    .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE);
-            request.setAttribute(HttpAttributes.SERVICE_ID, serviceId);
+            request.setAttribute(HttpAttributes.URI_TEMPLATE, plan.uriTemplateAttribute);
+            Argument<?> errorType = plan.errorType;
+            request.setAttribute(HttpAttributes.SERVICE_ID, plan.serviceId);
 
 
             final MediaType[] acceptTypes;
             Collection<MediaType> accept = request.accept();
             if (accept.isEmpty()) {
-                String[] consumesMediaType = context.stringValues(Consumes.class);
-                if (ArrayUtils.isEmpty(consumesMediaType)) {
-                    acceptTypes = DEFAULT_ACCEPT_TYPES;
-                } else {
-                    acceptTypes = MediaType.of(consumesMediaType);
-                }
+                acceptTypes = plan.acceptTypes;
                 request.accept(acceptTypes);
             } else {
                 acceptTypes = accept.toArray(MediaType.EMPTY_ARRAY);
@@ -479,17 +416,17 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
-    private Object getValue(Argument argument,
+    private Object getValue(ArgumentPlan argumentPlan,
                             MethodInvocationContext<?, ?> context,
                             Map<String, MutableArgumentValue<?>> parameters,
                             Map<String, Object> paramMap) {
+        Argument<Object> argument = argumentPlan.argument;
         String argumentName = argument.getName();
-        AnnotationMetadata argumentMetadata = argument.getAnnotationMetadata();
         MutableArgumentValue<?> value = parameters.get(argumentName);
 
         Object definedValue = value.getValue();
 
-        if (paramMap.containsKey(argumentName) && argumentMetadata.hasStereotype(Format.class)) {
+        if (argumentPlan.formatted && paramMap.containsKey(argumentName)) {
             final Object v = paramMap.get(argumentName);
             if (v != null) {
                 ConversionService.SHARED.convert(v,
@@ -499,7 +436,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
             }
         }
         if (definedValue == null) {
-            definedValue = argument.getAnnotationMetadata().stringValue(Bindable.class, "defaultValue").orElse(null);
+            definedValue = argumentPlan.defaultValue;
         }
 
         if (definedValue == null && !argument.isNullable()) {
@@ -515,6 +452,119 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
     }
 
+    /**
+     * Discards the request plans, since the placeholders in the annotations of the client methods may resolve to
+     * different values after a refresh.
+     *
+     * @param event The refresh event
+     * @since 2.5.12
+     */
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        requestPlans.clear();
+    }
+
+    /**
+     * Resolves everything about the request of a client method that does not depend on the argument values. The plan
+     * is kept until the next {@link RefreshEvent}.
+     *
+     * @param context        The invocation context
+     * @param annotationType The HTTP method annotation of the method
+     * @return The request plan
+     */
+    @SuppressWarnings("unchecked")
+    private RequestPlan newRequestPlan(MethodInvocationContext<Object, Object> context, Class<? extends Annotation> annotationType) {
+        AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
+        AnnotationValue<HttpMethodMapping> mapping = context.getAnnotation(HttpMethodMapping.class);
+        String uri = mapping.getRequiredValue(String.class);
+        if (StringUtils.isEmpty(uri)) {
+            uri = "/" + context.getMethodName();
+        }
+
+        HttpMethod httpMethod = HttpMethod.parse(annotationType.getSimpleName().toUpperCase(Locale.ENGLISH));
+        String httpMethodName = context.stringValue(CustomHttpMethod.class, "method").orElse(httpMethod.name());
+
+        UriMatchTemplate uriTemplate = UriMatchTemplate.of("");
+        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+            uriTemplate = uriTemplate.nest(uri);
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
+        Map<String, String> queryParams = new LinkedHashMap<>();
+
+        List<AnnotationValue<Header>> headerAnnotations = context.getAnnotationValuesByType(Header.class);
+        for (AnnotationValue<Header> headerAnnotation : headerAnnotations) {
+            String headerName = headerAnnotation.stringValue("name").orElse(null);
+            String headerValue = headerAnnotation.stringValue().orElse(null);
+            if (StringUtils.isNotEmpty(headerName) && StringUtils.isNotEmpty(headerValue)) {
+                headers.putIfAbsent(headerName, headerValue);
+            }
+        }
+
+        context.findAnnotation(Version.class)
+                .flatMap(AnnotationValue::stringValue)
+                .filter(StringUtils::isNotEmpty)
+                .ifPresent(version -> {
+
+                    ClientVersioningConfiguration configuration = getVersioningConfiguration(annotationMetadata);
+
+                    configuration.getHeaders()
+                            .forEach(header -> headers.put(header, version));
+
+                    configuration.getParameters()
+                            .forEach(parameter -> queryParams.put(parameter, version));
+                });
+
+        Map<String, Object> attributes = new LinkedHashMap<>(ATTRIBUTES_INITIAL_CAPACITY);
+
+        List<AnnotationValue<RequestAttribute>> attributeAnnotations = context.getAnnotationValuesByType(RequestAttribute.class);
+        for (AnnotationValue<RequestAttribute> attributeAnnotation : attributeAnnotations) {
+            String attributeName = attributeAnnotation.stringValue("name").orElse(null);
+            Object attributeValue = attributeAnnotation.getValue(Object.class).orElse(null);
+            if (StringUtils.isNotEmpty(attributeName) && attributeValue != null) {
+                attributes.put(attributeName, attributeValue);
+            }
+        }
+
+        Argument[] arguments = context.getArguments();
+        ArgumentPlan[] argumentPlans = new ArgumentPlan[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            Argument<Object> argument = arguments[i];
+            AnnotationMetadata argumentMetadata = argument.getAnnotationMetadata();
+            String bindableName = argumentMetadata.hasStereotype(Bindable.class) ? argumentMetadata.stringValue(Bindable.class).orElse(null) : null;
+            argumentPlans[i] = new ArgumentPlan(
+                    argument,
+                    bindableName,
+                    (ClientArgumentRequestBinder<Object>) binderRegistry.findArgumentBinder(argument).orElse(null),
+                    argumentMetadata.hasStereotype(Format.class),
+                    argumentMetadata.stringValue(Bindable.class, "defaultValue").orElse(null)
+            );
+        }
+
+        MediaType[] contentTypes = MediaType.of(context.stringValues(Produces.class));
+        if (ArrayUtils.isEmpty(contentTypes)) {
+            contentTypes = DEFAULT_ACCEPT_TYPES;
+        }
+        String[] consumesMediaType = context.stringValues(Consumes.class);
+        MediaType[] acceptTypes = ArrayUtils.isEmpty(consumesMediaType) ? DEFAULT_ACCEPT_TYPES : MediaType.of(consumesMediaType);
+
+        return new RequestPlan(
+                httpMethod,
+                httpMethodName,
+                uriTemplate,
+                headers,
+                queryParams,
+                attributes,
+                argumentPlans,
+                contentTypes[0],
+                acceptTypes,
+                resolveTemplate(annotationMetadata, uriTemplate.toString()),
+                getClientId(annotationMetadata),
+                annotationMetadata.classValue(Client.class, "errorType")
+                        .map((Function<Class, Argument>) Argument::of).orElse(HttpClient.DEFAULT_ERROR_TYPE)
+        );
+    }
+
     private Object handleBlockingCall(Class returnType, Supplier<Object> supplier) {
         try {
             if (void.class == returnType) {
@@ -589,4 +639,73 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
         }
         return uri;
     }
+
+    /**
+     * The parts of the request of a client method that do not depend on the argument values.
+     */
+    private static final class RequestPlan {
+        final HttpMethod httpMethod;
+        final String httpMethodName;
+        final UriMatchTemplate uriTemplate;
+        final List<String> uriVariables;
+        final Map<String, String> headers;
+        final Map<String, String> queryParams;
+        final Map<String, Object> attributes;
+        final ArgumentPlan[] arguments;
+        final MediaType contentType;
+        final MediaType[] acceptTypes;
+        final String uriTemplateAttribute;
+        final String serviceId;
+        final Argument<?> errorType;
+
+        RequestPlan(HttpMethod httpMethod,
+                    String httpMethodName,
+                    UriMatchTemplate uriTemplate,
+                    Map<String, String> headers,
+                    Map<String, String> queryParams,
+                    Map<String, Object> attributes,
+                    ArgumentPlan[] arguments,
+                    MediaType contentType,
+                    MediaType[] acceptTypes,
+                    String uriTemplateAttribute,
+                    String serviceId,
+                    Argument<?> errorType) {
+            this.httpMethod = httpMethod;
+            this.httpMethodName = httpMethodName;
+            this.uriTemplate = uriTemplate;
+            this.uriVariables = uriTemplate.getVariableNames();
+            this.headers = headers;
+            this.queryParams = queryParams;
+            this.attributes = attributes;
+            this.arguments = arguments;
+            this.contentType = contentType;
+            this.acceptTypes = acceptTypes;
+            this.uriTemplateAttribute = uriTemplateAttribute;
+            this.serviceId = serviceId;
+            this.errorType = errorType;
+        }
+    }
+
+    /**
+     * How an argument of a client method is bound to the request.
+     */
+    private static final class ArgumentPlan {
+        final Argument<Object> argument;
+        final @Nullable String bindableName;
+        final @Nullable ClientArgumentRequestBinder<Object> binder;
+        final boolean formatted;
+        final @Nullable String defaultValue;
+
+        ArgumentPlan(Argument<Object> argument,
+                     @Nullable String bindableName,
+                     @Nullable ClientArgumentRequestBinder<Object> binder,
+                     boolean formatted,
+                     @Nullable String defaultValue) {
+            this.argument = argument;
+            this.bindableName = bindableName;
+            this.binder = binder;
+            this.formatted = formatted;
+            this.defaultValue = defaultValue;
+        }
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A load balancer that selects instances by the requests in flight to them and by their response times, as reported
+ * by the client. The statistics are kept per instance URI, so they survive instance lists that are rebuilt on every
+ * lookup, and are dropped once the instance is no longer in the list. Only successful requests contribute to the
+ * response times.
+ *
+ * @since 2.5.12
+ */
+public abstract class AbstractRequestTrackingLoadBalancer extends AbstractRoundRobinLoadBalancer implements RequestTrackingLoadBalancer {
+
+    /**
+     * A new response time sample weighs 1 / 2^LATENCY_DECAY_SHIFT in the moving average.
+     */
+    private static final int LATENCY_DECAY_SHIFT = 2;
+
+    private final LoadBalancingStrategy strategy;
+    private final Map<URI, InstanceStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param strategy The strategy to select instances with
+     */
+    protected AbstractRequestTrackingLoadBalancer(@NonNull LoadBalancingStrategy strategy) {
+        ArgumentUtils.requireNonNull("strategy", strategy);
+        this.strategy = strategy;
+    }
+
+    /**
+     * @return The strategy to select instances with
+     */
+    public LoadBalancingStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public void requestStarted(@NonNull ServiceInstance instance) {
+        statistics.computeIfAbsent(instance.getURI(), uri -> new InstanceStatistics())
+                .outstandingRequests.incrementAndGet();
+    }
+
+    @Override
+    public void requestFinished(@NonNull ServiceInstance instance, long durationNanos) {
+        InstanceStatistics instanceStatistics = statistics.get(instance.getURI());
+        if (instanceStatistics != null) {
+            instanceStatistics.outstandingRequests.decrementAndGet();
+            instanceStatistics.recordLatency(durationNanos);
+        }
+    }
+
+    @Override
+    public void requestFailed(@NonNull ServiceInstance instance) {
+        InstanceStatistics instanceStatistics = statistics.get(instance.getURI());
+        if (instanceStatistics != null) {
+            instanceStatistics.outstandingRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * @param instance The instance
+     * @return The number of requests in flight to the instance
+     */
+    public int getOutstandingRequests(@NonNull ServiceInstance instance) {
+        InstanceStatistics instanceStatistics = statistics.get(instance.getURI());
+        return instanceStatistics != null ? instanceStatistics.outstandingRequests.get() : 0;
+    }
+
+    @Override
+    protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
+        pruneStatistics(serviceInstances);
+        switch (strategy) {
+            case LEAST_OUTSTANDING_REQUESTS:
+            case EWMA_LATENCY:
+                return getLowestScore(serviceInstances);
+            case POWER_OF_TWO_CHOICES:
+                return getBestOfTwo(serviceInstances);
+            default:
+                return super.getNextAvailable(serviceInstances);
+        }
+    }
+
+    /**
+     * Drops the statistics of instances that are no longer in the list. Only instances that were selected have
+     * statistics, so there are stale statistics whenever there are more statistics than instances.
+     *
+     * @param serviceInstances The current instances
+     */
+    private void pruneStatistics(List<ServiceInstance> serviceInstances) {
+        if (statistics.size() > serviceInstances.size()) {
+            Set<URI> uris = new HashSet<>(serviceInstances.size());
+            for (ServiceInstance instance : serviceInstances) {
+                uris.add(instance.getURI());
+            }
+            statistics.keySet().retainAll(uris);
+        }
+    }
+
+    private ServiceInstance getLowestScore(List<ServiceInstance> serviceInstances) {
+        int size = serviceInstances.size();
+        // start at a different instance every time, so that instances with equal scores take turns
+        int start = size > 0 ? getServiceIndex(size) % size : 0;
+        ServiceInstance selected = null;
+        long lowestScore = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            ServiceInstance instance = serviceInstances.get((start + i) % size);
+            if (isAvailable(instance)) {
+                long score = score(instance);
+                if (selected == null || score < lowestScore) {
+                    selected = instance;
+                    lowestScore = score;
+                }
+            }
+        }
+        if (selected == null) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        return selected;
+    }
+
+    private ServiceInstance getBestOfTwo(List<ServiceInstance> serviceInstances) {
+        int available = countAvailable(serviceInstances);
+        if (available == 0) {
+            throw new NoAvailableServiceException(getServiceID());
+        }
+        if (available == 1) {
+            return getAvailable(serviceInstances, 0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available);
+        int second = random.nextInt(available - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance firstInstance = getAvailable(serviceInstances, first);
+        ServiceInstance secondInstance = getAvailable(serviceInstances, second);
+        return getOutstandingRequests(secondInstance) < getOutstandingRequests(firstInstance) ? secondInstance : firstInstance;
+    }
+
+    private long score(ServiceInstance instance) {
+        InstanceStatistics instanceStatistics = statistics.get(instance.getURI());
+        if (instanceStatistics == null) {
+            return 0;
+        }
+        long outstandingRequests = Math.max(instanceStatistics.outstandingRequests.get(), 0);
+        if (strategy == LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS) {
+            return outstandingRequests;
+        }
+        // instances without samples score 0 and are tried first
+        return instanceStatistics.latencyNanos.get() * (outstandingRequests + 1);
+    }
+
+    /**
+     * The requests in flight and the moving average of the response time of an instance.
+     */
+    private static final class InstanceStatistics {
+        final AtomicInteger outstandingRequests = new AtomicInteger();
+        final AtomicLong latencyNanos = new AtomicLong();
+
+        void recordLatency(long durationNanos) {
+            long sample = Math.max(durationNanos, 1);
+            long current;
+            long next;
+            do {
+                current = latencyNanos.get();
+                next = current == 0 ? sample : current + ((sample - current) >> LATENCY_DECAY_SHIFT);
+            } while (!latencyNanos.compareAndSet(current, next));
+        }
+    }
+}
@@ -22,7 +22,6 @@ import io.micronaut.http.client.LoadBalancer;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 /**
  * @author graemerocher
@@ -42,24 +41,61 @@ public abstract class AbstractRoundRobinLoadBalancer implements LoadBalancer {
      * @return The next available instance or a {@link NoAvailableServiceException} if none
      */
     protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
-        List<ServiceInstance> availableServices = serviceInstances.stream()
-            .filter(si -> si.getHealthStatus().equals(HealthStatus.UP))
-            .collect(Collectors.toList());
-        int len = availableServices.size();
+        int len = countAvailable(serviceInstances);
         if (len == 0) {
             throw new NoAvailableServiceException(getServiceID());
         }
         int i = getServiceIndex(len);
-        try {
-            return availableServices.get(i);
-        } catch (IndexOutOfBoundsException e) {
+        if (i >= len) {
+            // fewer instances are available than on the previous selection
             index.set(0);
             i = getServiceIndex(len);
-            return availableServices.get(i);
         }
+        return getAvailable(serviceInstances, i);
     }
 
-    private int getServiceIndex(int len) {
+    /**
+     * @param serviceInstances A list of service instances
+     * @return The number of instances that are up
+     */
+    static int countAvailable(List<ServiceInstance> serviceInstances) {
+        int count = 0;
+        for (ServiceInstance serviceInstance : serviceInstances) {
+            if (isAvailable(serviceInstance)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @param n                The index among the instances that are up
+     * @return The n-th instance that is up
+     */
+    static ServiceInstance getAvailable(List<ServiceInstance> serviceInstances, int n) {
+        int count = 0;
+        for (ServiceInstance serviceInstance : serviceInstances) {
+            if (isAvailable(serviceInstance) && count++ == n) {
+                return serviceInstance;
+            }
+        }
+        throw new IndexOutOfBoundsException("No available service instance at index " + n);
+    }
+
+    /**
+     * @param serviceInstance A service instance
+     * @return Whether the instance is up
+     */
+    static boolean isAvailable(ServiceInstance serviceInstance) {
+        return serviceInstance.getHealthStatus().equals(HealthStatus.UP);
+    }
+
+    /**
+     * @param len The number of available instances
+     * @return The index of the next instance to select
+     */
+    int getServiceIndex(int len) {
         return index.getAndAccumulate(len, (cur, n) -> cur >= n - 1 ? 0 : cur + 1);
     }
 }
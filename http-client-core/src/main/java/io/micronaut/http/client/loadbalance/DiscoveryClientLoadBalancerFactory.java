@@ -49,6 +49,21 @@ public class DiscoveryClientLoadBalancerFactory {
         return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient);
     }
 
+    /**
+     * Creates a {@link LoadBalancer} for the given service ID that selects instances with the given strategy.
+     *
+     * @param serviceID The service ID
+     * @param strategy  The strategy to select instances with
+     * @return The {@link LoadBalancer}
+     * @since 2.5.12
+     */
+    public LoadBalancer create(String serviceID, LoadBalancingStrategy strategy) {
+        if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
+            return create(serviceID);
+        }
+        return new DiscoveryClientRequestTrackingLoadBalancer(serviceID, discoveryClient, strategy);
+    }
+
     /**
      * @return The {@link DiscoveryClient} being used
      */
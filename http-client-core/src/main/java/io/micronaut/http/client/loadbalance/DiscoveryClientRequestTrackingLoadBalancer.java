@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import org.reactivestreams.Publisher;
+
+/**
+ * A {@link RequestTrackingLoadBalancer} for the instances of a service provided by the {@link DiscoveryClient}.
+ *
+ * @since 2.5.12
+ */
+public class DiscoveryClientRequestTrackingLoadBalancer extends AbstractRequestTrackingLoadBalancer {
+
+    private final String serviceID;
+    private final DiscoveryClient discoveryClient;
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param strategy        The strategy to select instances with
+     */
+    public DiscoveryClientRequestTrackingLoadBalancer(String serviceID, DiscoveryClient discoveryClient, @NonNull LoadBalancingStrategy strategy) {
+        super(strategy);
+        this.serviceID = serviceID;
+        this.discoveryClient = discoveryClient;
+    }
+
+    @Override
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(Object discriminator) {
+        return Publishers.map(discoveryClient.getInstances(serviceID), this::getNextAvailable);
+    }
+}
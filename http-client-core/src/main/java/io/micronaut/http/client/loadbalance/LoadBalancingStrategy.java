@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+/**
+ * The strategies to select an instance of a service.
+ *
+ * @since 2.5.12
+ */
+public enum LoadBalancingStrategy {
+    /**
+     * Selects the available instances in turn.
+     */
+    ROUND_ROBIN,
+    /**
+     * Selects the available instance with the fewest requests in flight.
+     */
+    LEAST_OUTSTANDING_REQUESTS,
+    /**
+     * Selects the instance with fewer requests in flight out of two random available instances.
+     */
+    POWER_OF_TWO_CHOICES,
+    /**
+     * Selects the available instance with the lowest moving average of the response time, weighted by the requests in
+     * flight.
+     */
+    EWMA_LATENCY
+}
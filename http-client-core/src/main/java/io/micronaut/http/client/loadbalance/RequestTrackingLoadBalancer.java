@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.http.client.LoadBalancer;
+
+/**
+ * A {@link LoadBalancer} that is notified of the requests sent to the instances it selected.
+ *
+ * @since 2.5.12
+ */
+public interface RequestTrackingLoadBalancer extends LoadBalancer {
+
+    /**
+     * Called when a request to an instance selected by this load balancer starts.
+     *
+     * @param instance The instance
+     */
+    void requestStarted(@NonNull ServiceInstance instance);
+
+    /**
+     * Called when a request to an instance selected by this load balancer completes, or is cancelled after a response
+     * was received.
+     *
+     * @param instance      The instance
+     * @param durationNanos The duration of the request in nanoseconds
+     */
+    void requestFinished(@NonNull ServiceInstance instance, long durationNanos);
+
+    /**
+     * Called when a request to an instance selected by this load balancer fails, or is cancelled before a response
+     * was received. The duration of such a request says nothing about the response time of the instance.
+     *
+     * @param instance The instance
+     */
+    void requestFailed(@NonNull ServiceInstance instance);
+}
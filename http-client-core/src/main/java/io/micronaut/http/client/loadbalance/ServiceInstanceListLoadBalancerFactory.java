@@ -41,4 +41,20 @@ public class ServiceInstanceListLoadBalancerFactory {
     public LoadBalancer create(ServiceInstanceList serviceInstanceList) {
         return new ServiceInstanceListRoundRobinLoadBalancer(serviceInstanceList);
     }
+
+    /**
+     * Creates a {@link LoadBalancer} from the given {@link ServiceInstanceList} that selects instances with the given
+     * strategy.
+     *
+     * @param serviceInstanceList The {@link ServiceInstanceList}
+     * @param strategy            The strategy to select instances with
+     * @return The {@link LoadBalancer}
+     * @since 2.5.12
+     */
+    public LoadBalancer create(ServiceInstanceList serviceInstanceList, LoadBalancingStrategy strategy) {
+        if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
+            return create(serviceInstanceList);
+        }
+        return new ServiceInstanceListRequestTrackingLoadBalancer(serviceInstanceList, strategy);
+    }
 }
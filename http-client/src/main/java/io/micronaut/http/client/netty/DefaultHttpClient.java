@@ -37,6 +37,7 @@ import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.http.*;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.bind.DefaultRequestBinderRegistry;
@@ -46,6 +47,7 @@ import io.micronaut.http.client.exceptions.*;
 import io.micronaut.http.client.filter.ClientFilterResolutionContext;
 import io.micronaut.http.client.filter.DefaultHttpClientFilterResolver;
 import io.micronaut.http.client.filters.ClientServerContextFilter;
+import io.micronaut.http.client.loadbalance.RequestTrackingLoadBalancer;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.multipart.MultipartDataFactory;
 import io.micronaut.http.client.sse.RxSseClient;
@@ -89,8 +91,10 @@ import io.netty.channel.*;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.pool.*;
 import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.LineBasedFrameDecoder;
+import io.netty.handler.codec.PrematureChannelClosureException;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -114,6 +118,10 @@ import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import io.netty.util.CharsetUtil;
@@ -181,7 +189,7 @@ public class DefaultHttpClient implements
     private static final AttributeKey<Http2Stream> STREAM_KEY = AttributeKey.valueOf("micronaut.http2.stream");
     private static final int DEFAULT_HTTP_PORT = 80;
     private static final int DEFAULT_HTTPS_PORT = 443;
-
+    private static final String LOAD_BALANCED_INSTANCE = "micronaut.http.client.loadBalancedInstance";
     protected final Bootstrap bootstrap;
     protected EventLoopGroup group;
     protected MediaTypeCodecRegistry mediaTypeCodecRegistry;
@@ -198,6 +206,8 @@ public class DefaultHttpClient implements
     private final boolean shutdownGroup;
     private final Charset defaultCharset;
     private final ChannelPoolMap<RequestKey, ChannelPool> poolMap;
+    private final AddressResolverGroup<?> resolverGroup;
+    private final HttpResponseCache responseCache;
     private final Logger log;
     private final @Nullable
     Long readTimeoutMillis;
@@ -300,6 +310,11 @@ public class DefaultHttpClient implements
         this.bootstrap.group(group)
                 .channelFactory(socketChannelFactory)
                 .option(ChannelOption.SO_KEEPALIVE, true);
+        this.resolverGroup = newResolverGroup(configuration);
+        if (resolverGroup != null) {
+            this.bootstrap.resolver(resolverGroup);
+        }
+        this.responseCache = configuration.isResponseCacheEnabled() ? new HttpResponseCache(configuration.getResponseCacheMaxSize()) : null;
 
         Optional<Duration> readTimeout = configuration.getReadTimeout();
         this.readTimeoutMillis = readTimeout.map(duration -> !duration.isNegative() ? duration.toMillis() : null).orElse(null);
@@ -314,7 +329,34 @@ public class DefaultHttpClient implements
         // HTTP/2 defaults to keep alive connections so should we should always use a pool
         if (connectionPoolConfiguration.isEnabled() || this.httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0) {
             int maxConnections = connectionPoolConfiguration.getMaxConnections();
-            if (maxConnections > -1) {
+            if (this.httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0) {
+                // requests share the connections to an origin, each one on its own stream
+                poolMap = new AbstractChannelPoolMap<RequestKey, ChannelPool>() {
+                    @Override
+                    protected ChannelPool newPool(RequestKey key) {
+                        Bootstrap newBootstrap = bootstrap.clone(group);
+                        newBootstrap.remoteAddress(key.getRemoteAddress());
+
+                        final long acquireTimeoutMillis = connectionPoolConfiguration.getAcquireTimeout().map(Duration::toMillis).orElse(-1L);
+                        return new Http2StreamChannelPool(
+                                newBootstrap,
+                                maxConnections,
+                                connectionPoolConfiguration.getMaxPendingAcquires(),
+                                acquireTimeoutMillis
+                        ) {
+                            @Override
+                            protected void initConnection(Channel channel, ChannelHandler connectionHandler) {
+                                initHttp2PoolConnection(key, channel, connectionHandler);
+                            }
+
+                            @Override
+                            protected void initStream(Http2StreamChannel channel) {
+                                initHttp2PoolStream(channel);
+                            }
+                        };
+                    }
+                };
+            } else if (maxConnections > -1) {
                 poolMap = new AbstractChannelPoolMap<RequestKey, ChannelPool>() {
                     @Override
                     protected ChannelPool newPool(RequestKey key) {
@@ -429,6 +471,14 @@ public class DefaultHttpClient implements
         return configuration;
     }
 
+    /**
+     * @return The response cache of this client, if enabled with {@link HttpClientConfiguration#setResponseCacheEnabled(boolean)}
+     * @since 2.5.12
+     */
+    public Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
     /**
      * @return The client-specific logger name
      */
@@ -475,6 +525,9 @@ public class DefaultHttpClient implements
 
                 }
             }
+            if (resolverGroup != null) {
+                resolverGroup.close();
+            }
             if (shutdownGroup) {
                 Duration shutdownTimeout = configuration.getShutdownTimeout()
                     .orElse(Duration.ofMillis(DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS));
@@ -743,7 +796,7 @@ public class DefaultHttpClient implements
         final io.micronaut.http.HttpRequest<Object> parentRequest = ServerRequestContext.currentRequest().orElse(null);
         Publisher<URI> uriPublisher = resolveRequestURI(request);
         return Flowable.fromPublisher(uriPublisher)
-                .switchMap(buildExchangePublisher(parentRequest, request, bodyType, errorType));
+                .switchMap(trackRequest(request, buildExchangePublisher(parentRequest, request, bodyType, errorType)));
     }
 
     @Override
@@ -1150,6 +1203,14 @@ public class DefaultHttpClient implements
 
             }, BackpressureStrategy.ERROR);
 
+            if (responseCache != null) {
+                responsePublisher = responseCache.exchange(
+                        requestWrapper,
+                        responsePublisher,
+                        cachedResponse -> buildCachedResponsePublisher(cachedResponse, bodyType)
+                );
+            }
+
             Publisher<io.micronaut.http.HttpResponse<O>> finalPublisher = applyFilterToResponsePublisher(
                     parentRequest,
                     request,
@@ -1186,6 +1247,16 @@ public class DefaultHttpClient implements
         };
     }
 
+    private <O> Flowable<io.micronaut.http.HttpResponse<O>> buildCachedResponsePublisher(FullHttpResponse cachedResponse, Argument<O> bodyType) {
+        return Flowable.create(emitter -> {
+            FullNettyClientHttpResponse<O> response
+                    = new FullNettyClientHttpResponse<>(cachedResponse, HttpStatus.OK, mediaTypeCodecRegistry, byteBufferFactory, bodyType, true);
+            emitter.onNext(response);
+            response.onComplete();
+            emitter.onComplete();
+        }, BackpressureStrategy.ERROR);
+    }
+
     /**
      * @param channel The channel to close asynchronously
      */
@@ -1359,6 +1430,38 @@ public class DefaultHttpClient implements
         return group;
     }
 
+    /**
+     * Creates the resolver of host names for the configured {@link HttpClientConfiguration.DnsResolutionMode}.
+     *
+     * @param configuration The configuration
+     * @return The resolver group or null to resolve host names with the JDK
+     */
+    private @Nullable AddressResolverGroup<?> newResolverGroup(HttpClientConfiguration configuration) {
+        HttpClientConfiguration.DnsResolutionMode mode = configuration.getDnsResolutionMode();
+        if (mode == HttpClientConfiguration.DnsResolutionMode.DEFAULT) {
+            return null;
+        }
+        if (!(group instanceof NioEventLoopGroup)) {
+            // the DNS queries are sent through datagram channels registered with the event loop of the connection
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("DNS resolution mode {} requires a NIO event loop group, falling back to the JDK resolver", mode);
+            }
+            return null;
+        }
+        DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+                .channelType(NioDatagramChannel.class)
+                .ttl(0, configuration.getDnsMaxTtl().map(DefaultHttpClient::toTtlSeconds).orElse(Integer.MAX_VALUE));
+        configuration.getDnsNegativeTtl().ifPresent(ttl -> builder.negativeTtl(toTtlSeconds(ttl)));
+        if (mode == HttpClientConfiguration.DnsResolutionMode.ROUND_ROBIN) {
+            return new RoundRobinDnsAddressResolverGroup(builder);
+        }
+        return new DnsAddressResolverGroup(builder);
+    }
+
+    private static int toTtlSeconds(Duration ttl) {
+        return (int) Math.min(Math.max(ttl.getSeconds(), 0), Integer.MAX_VALUE);
+    }
+
     /**
      * Creates an initial connection with the given bootstrap and remote host.
      *
@@ -1773,11 +1876,56 @@ public class DefaultHttpClient implements
                     if (request instanceof MutableHttpRequest && authInfo.isPresent()) {
                         ((MutableHttpRequest) request).getHeaders().auth(authInfo.get());
                     }
+                    if (loadBalancer instanceof RequestTrackingLoadBalancer) {
+                        request.setAttribute(LOAD_BALANCED_INSTANCE, server);
+                    }
                     return server.resolve(includeContextPath ? prependContextPath(requestURI) : requestURI);
                 }
         );
     }
 
+    /**
+     * Reports the start and the end of a request to the {@link RequestTrackingLoadBalancer} that selected its instance.
+     *
+     * @param request           The request
+     * @param publisherFunction Creates the response publisher for the resolved URI
+     * @param <T>               The response type
+     * @return The function creating the tracked response publisher
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Function<URI, Publisher<? extends T>> trackRequest(
+            io.micronaut.http.HttpRequest<?> request,
+            Function<URI, ? extends Publisher<? extends T>> publisherFunction) {
+        if (!(loadBalancer instanceof RequestTrackingLoadBalancer)) {
+            return (Function<URI, Publisher<? extends T>>) publisherFunction;
+        }
+        RequestTrackingLoadBalancer trackingLoadBalancer = (RequestTrackingLoadBalancer) loadBalancer;
+        return uri -> {
+            ServiceInstance instance = request.getAttribute(LOAD_BALANCED_INSTANCE, ServiceInstance.class).orElse(null);
+            Publisher<? extends T> publisher = publisherFunction.apply(uri);
+            if (instance == null) {
+                return publisher;
+            }
+            return Flowable.defer(() -> {
+                long start = System.nanoTime();
+                // whether a response was received and no error followed
+                AtomicBoolean succeeded = new AtomicBoolean();
+                trackingLoadBalancer.requestStarted(instance);
+                return Flowable.<T>fromPublisher(publisher)
+                        .doOnNext(item -> succeeded.set(true))
+                        .doOnComplete(() -> succeeded.set(true))
+                        .doOnError(error -> succeeded.set(false))
+                        .doFinally(() -> {
+                            if (succeeded.get()) {
+                                trackingLoadBalancer.requestFinished(instance, System.nanoTime() - start);
+                            } else {
+                                trackingLoadBalancer.requestFailed(instance);
+                            }
+                        });
+            });
+        };
+    }
+
     private <I, O, E> void sendRequestThroughChannel(
             AtomicReference<io.micronaut.http.HttpRequest> requestWrapper,
             Argument<O> bodyType,
@@ -2064,8 +2212,12 @@ public class DefaultHttpClient implements
             boolean keepAlive = true;
 
             @Override
-            protected void channelReadInstrumented(ChannelHandlerContext channelHandlerContext, FullHttpResponse fullResponse) {
+            protected void channelReadInstrumented(ChannelHandlerContext channelHandlerContext, FullHttpResponse networkResponse) {
+                FullHttpResponse fullResponse = networkResponse;
                 try {
+                    if (responseCache != null) {
+                        fullResponse = responseCache.onResponse(request, networkResponse);
+                    }
 
                     HttpResponseStatus status = fullResponse.status();
                     int statusCode = status.code();
@@ -2211,16 +2363,19 @@ public class DefaultHttpClient implements
                         }
                     }
                 } finally {
-                    if (fullResponse.refCnt() > 0) {
+                    if (fullResponse != networkResponse) {
+                        ReferenceCountUtil.safeRelease(fullResponse);
+                    }
+                    if (networkResponse.refCnt() > 0) {
                         try {
-                            ReferenceCountUtil.release(fullResponse);
+                            ReferenceCountUtil.release(networkResponse);
                         } catch (Throwable e) {
                             if (LOG.isDebugEnabled()) {
-                                LOG.debug("Failed to release response: {}", fullResponse);
+                                LOG.debug("Failed to release response: {}", networkResponse);
                             }
                         }
                     }
-                    if (!HttpUtil.isKeepAlive(fullResponse)) {
+                    if (!HttpUtil.isKeepAlive(networkResponse)) {
                         keepAlive = false;
                     }
                     pipeline.remove(this);
@@ -2235,7 +2390,8 @@ public class DefaultHttpClient implements
                         ctx.pipeline().remove(ChannelPipelineCustomizer.HANDLER_READ_TIMEOUT);
                     }
                     final Channel ch = ctx.channel();
-                    if (!keepAlive) {
+                    // releasing a stream closes it
+                    if (!keepAlive && !(ch instanceof Http2StreamChannel)) {
                         ch.closeFuture().addListener((future ->
                                 channelPool.release(ch)
                         ));
@@ -2252,7 +2408,8 @@ public class DefaultHttpClient implements
             public void handlerAdded(ChannelHandlerContext ctx) {
                 if (readTimeoutMillis != null) {
 
-                    if (httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0) {
+                    // the channels of the HTTP/2 pool are streams, or connections that fell back to HTTP/1.1
+                    if (httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0 && !(channelPool instanceof Http2StreamChannelPool)) {
                         Http2SettingsHandler settingsHandler = (Http2SettingsHandler) ctx.pipeline().get(HANDLER_HTTP2_SETTINGS);
                         if (settingsHandler != null) {
                             addInstrumentedListener(settingsHandler.promise, future -> {
@@ -2616,6 +2773,180 @@ public class DefaultHttpClient implements
         };
     }
 
+    /**
+     * Sets up a pooled HTTP/2 connection. Each request opens its own stream on the connection, see
+     * {@link #initHttp2PoolStream(Http2StreamChannel)}.
+     *
+     * @param key               The request key
+     * @param ch                The connection
+     * @param connectionHandler The handler that reports the state of the connection to the pool
+     */
+    private void initHttp2PoolConnection(RequestKey key, Channel ch, ChannelHandler connectionHandler) {
+        ChannelPipeline pipeline = ch.pipeline();
+        SslContext sslCtx = key.isSecure() ? sslContext : null;
+
+        Proxy proxy = configuration.resolveProxy(sslCtx != null, key.getHost(), key.getPort());
+        if (!Proxy.NO_PROXY.equals(proxy)) {
+            configureProxy(pipeline, proxy);
+        }
+        if (connectionTimeAliveMillis != null) {
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_CONNECT_TTL, new ConnectTTLHandler(connectionTimeAliveMillis));
+        }
+        Duration idleTimeout = configuration.getConnectionPoolIdleTimeout().orElse(Duration.ofNanos(0));
+        if (idleTimeout.toNanos() > 0) {
+            // the pool only closes the connection when no stream is open on it
+            pipeline.addLast(HANDLER_IDLE_STATE, new IdleStateHandler(idleTimeout.toNanos(), idleTimeout.toNanos(), 0, TimeUnit.NANOSECONDS));
+        }
+
+        if (sslCtx != null) {
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_SSL, sslCtx.newHandler(ch.alloc(), key.getHost(), key.getPort()));
+            pipeline.addLast(
+                    ChannelPipelineCustomizer.HANDLER_HTTP2_PROTOCOL_NEGOTIATOR,
+                    new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_2) {
+                @Override
+                protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                    ChannelPipeline p = ctx.pipeline();
+                    if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                        p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION, newHttp2FrameCodec());
+                        p.addLast(new Http2MultiplexHandler(new Http2PushRejectingInitializer()));
+                    } else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
+                        p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_CLIENT_CODEC, new HttpClientCodec());
+                        p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECODER, new HttpContentDecompressor());
+                        p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, newHttpObjectAggregator());
+                    } else {
+                        ctx.close();
+                        throw new HttpClientException("Unknown Protocol: " + protocol);
+                    }
+                    p.addLast(connectionHandler);
+                    for (ChannelPipelineListener pipelineListener : pipelineListeners) {
+                        pipelineListener.onConnect(p);
+                    }
+                }
+            });
+        } else {
+            HttpClientCodec sourceCodec = new HttpClientCodec();
+            Http2ClientUpgradeCodec upgradeCodec = new Http2ClientUpgradeCodec(
+                    ChannelPipelineCustomizer.HANDLER_HTTP2_CONNECTION,
+                    newHttp2FrameCodec(),
+                    new Http2MultiplexHandler(new Http2PushRejectingInitializer(), new ChannelInboundHandlerAdapter() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            // the response to the upgrade request arrives on the first stream and nobody waits for it
+                            ReferenceCountUtil.release(msg);
+                        }
+                    })
+            );
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_CLIENT_CODEC, sourceCodec);
+            pipeline.addLast(new HttpClientUpgradeHandler(sourceCodec, upgradeCodec, 65536));
+            pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_UPGRADE_REQUEST, new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelActive(ChannelHandlerContext ctx) {
+                    ctx.writeAndFlush(newHttp2UpgradeRequest(ctx.channel()));
+                    ctx.fireChannelActive();
+                }
+
+                @Override
+                public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                    if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL) {
+                        ChannelPipeline p = ctx.pipeline();
+                        p.remove(this);
+                        p.addLast(connectionHandler);
+                        for (ChannelPipelineListener pipelineListener : pipelineListeners) {
+                            pipelineListener.onConnect(p);
+                        }
+                    } else if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_REJECTED) {
+                        ctx.close();
+                    }
+                    ctx.fireUserEventTriggered(evt);
+                }
+            });
+        }
+    }
+
+    /**
+     * Sets up a stream of a pooled HTTP/2 connection to read and write HTTP objects like an HTTP/1.1 connection.
+     *
+     * @param ch The stream
+     */
+    private void initHttp2PoolStream(Http2StreamChannel ch) {
+        ChannelPipeline pipeline = ch.pipeline();
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_CLIENT_CODEC, new Http2StreamFrameToHttpObjectCodec(false));
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECODER, new HttpContentDecompressor());
+        pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, newHttpObjectAggregator());
+        pipeline.addLast(new ChannelInboundHandlerAdapter() {
+            boolean complete;
+
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                if (msg instanceof LastHttpContent) {
+                    complete = true;
+                }
+                ctx.fireChannelRead(msg);
+            }
+
+            @Override
+            public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                complete = true;
+                ctx.fireExceptionCaught(cause);
+            }
+
+            @Override
+            public void channelInactive(ChannelHandlerContext ctx) {
+                if (!complete) {
+                    // the server reset the stream, or the connection went away before the response was complete
+                    complete = true;
+                    ctx.fireExceptionCaught(new PrematureChannelClosureException("Stream closed before the response was complete"));
+                }
+                ctx.fireChannelInactive();
+            }
+        });
+    }
+
+    private Http2FrameCodec newHttp2FrameCodec() {
+        final Http2FrameCodecBuilder builder = Http2FrameCodecBuilder.forClient()
+                .validateHeaders(true)
+                // a pushed stream has no request that waits for it
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false));
+        configuration.getLogLevel().ifPresent(logLevel -> {
+            try {
+                final io.netty.handler.logging.LogLevel nettyLevel = io.netty.handler.logging.LogLevel.valueOf(
+                        logLevel.name()
+                );
+                builder.frameLogger(new Http2FrameLogger(nettyLevel, DefaultHttpClient.class));
+            } catch (IllegalArgumentException e) {
+                throw new HttpClientException("Unsupported log level: " + logLevel);
+            }
+        });
+        return builder.build();
+    }
+
+    private HttpObjectAggregator newHttpObjectAggregator() {
+        return new HttpObjectAggregator(configuration.getMaxContentLength()) {
+            @Override
+            protected void finishAggregation(FullHttpMessage aggregated) throws Exception {
+                if (!HttpUtil.isContentLengthSet(aggregated)) {
+                    if (aggregated.content().readableBytes() > 0) {
+                        super.finishAggregation(aggregated);
+                    }
+                }
+            }
+        };
+    }
+
+    private static DefaultFullHttpRequest newHttp2UpgradeRequest(Channel channel) {
+        DefaultFullHttpRequest upgradeRequest =
+                new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/", Unpooled.EMPTY_BUFFER);
+
+        // Set HOST header as the remote peer may require it.
+        InetSocketAddress remote = (InetSocketAddress) channel.remoteAddress();
+        String hostString = remote.getHostString();
+        if (hostString == null) {
+            hostString = remote.getAddress().getHostAddress();
+        }
+        upgradeRequest.headers().set(HttpHeaderNames.HOST, hostString + ':' + remote.getPort());
+        return upgradeRequest;
+    }
+
     @Override
     public boolean isClientChannel() {
         return true;
@@ -2894,19 +3225,8 @@ public class DefaultHttpClient implements
 
             p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_DECODER, new HttpContentDecompressor());
 
-            int maxContentLength = configuration.getMaxContentLength();
-
             if (!stream) {
-                p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, new HttpObjectAggregator(maxContentLength) {
-                    @Override
-                    protected void finishAggregation(FullHttpMessage aggregated) throws Exception {
-                        if (!HttpUtil.isContentLengthSet(aggregated)) {
-                            if (aggregated.content().readableBytes() > 0) {
-                                super.finishAggregation(aggregated);
-                            }
-                        }
-                    }
-                });
+                p.addLast(ChannelPipelineCustomizer.HANDLER_HTTP_AGGREGATOR, newHttpObjectAggregator());
             }
             addEventStreamHandlerIfNecessary(p);
             addFinalHandler(p);
@@ -2994,6 +3314,16 @@ public class DefaultHttpClient implements
         }
     }
 
+    /**
+     * Closes the streams the server opens, since the pooled connections disable server push.
+     */
+    private static final class Http2PushRejectingInitializer extends ChannelInitializer<Channel> {
+        @Override
+        protected void initChannel(Channel ch) {
+            ch.close();
+        }
+    }
+
     /**
      * Reads the first {@link Http2Settings} object and notifies a {@link io.netty.channel.ChannelPromise}.
      */
@@ -3050,17 +3380,7 @@ public class DefaultHttpClient implements
             final ChannelPipeline pipeline = ctx.pipeline();
 
             pipeline.addLast(ChannelPipelineCustomizer.HANDLER_HTTP2_SETTINGS, initializer.settingsHandler);
-            DefaultFullHttpRequest upgradeRequest =
-                    new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/", Unpooled.EMPTY_BUFFER);
-
-            // Set HOST header as the remote peer may require it.
-            InetSocketAddress remote = (InetSocketAddress) ctx.channel().remoteAddress();
-            String hostString = remote.getHostString();
-            if (hostString == null) {
-                hostString = remote.getAddress().getHostAddress();
-            }
-            upgradeRequest.headers().set(HttpHeaderNames.HOST, hostString + ':' + remote.getPort());
-            ctx.writeAndFlush(upgradeRequest);
+            ctx.writeAndFlush(newHttp2UpgradeRequest(ctx.channel()));
 
             ctx.fireChannelActive();
             pipeline.remove(this);
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2GoAwayFrame;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link ChannelPool} that multiplexes the requests to one origin over a small number of HTTP/2 connections.
+ * Acquiring a channel opens a new {@link Http2StreamChannel} on a connection with a stream to spare, and releasing it
+ * closes the stream. Another connection is only opened once every connection carries as many streams as the server
+ * allows with {@code SETTINGS_MAX_CONCURRENT_STREAMS}. A connection that receives a GOAWAY, or that reached its
+ * time-to-live, takes no new streams and is closed once its last stream is closed.
+ *
+ * <p>A connection that negotiates HTTP/1.1 instead is handed out whole, to one request at a time.</p>
+ *
+ * <p>The state of the pool is only accessed from a single event loop.</p>
+ *
+ * @since 2.5.12
+ */
+@Internal
+abstract class Http2StreamChannelPool implements ChannelPool {
+
+    private final Bootstrap bootstrap;
+    private final EventExecutor executor;
+    private final int maxConnections;
+    private final int maxPendingAcquires;
+    private final long acquireTimeoutMillis;
+    private final List<Connection> connections = new ArrayList<>();
+    private final Deque<Promise<Channel>> pendingAcquires = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * @param bootstrap            The bootstrap for new connections, with the remote address set
+     * @param maxConnections       The maximum number of connections, or -1 for no maximum
+     * @param maxPendingAcquires   The maximum number of acquires that wait for a stream
+     * @param acquireTimeoutMillis The time an acquire waits for a stream before it fails, or -1 to wait indefinitely
+     */
+    Http2StreamChannelPool(Bootstrap bootstrap, int maxConnections, int maxPendingAcquires, long acquireTimeoutMillis) {
+        this.bootstrap = bootstrap;
+        this.executor = bootstrap.config().group().next();
+        this.maxConnections = maxConnections;
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * Initializes a new connection. Once the connection speaks HTTP/2 and has a
+     * {@link io.netty.handler.codec.http2.Http2MultiplexHandler} after its {@link Http2ConnectionHandler}, or once it
+     * fell back to HTTP/1.1, the given handler has to be added last to the pipeline.
+     *
+     * @param channel           The connection
+     * @param connectionHandler The handler that reports the state of the connection to this pool
+     */
+    protected abstract void initConnection(Channel channel, ChannelHandler connectionHandler);
+
+    /**
+     * Initializes a new stream before it is handed out.
+     *
+     * @param channel The stream
+     */
+    protected abstract void initStream(Http2StreamChannel channel);
+
+    @Override
+    public Future<Channel> acquire() {
+        return acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        if (executor.inEventLoop()) {
+            doAcquire(promise);
+        } else {
+            executor.execute(() -> doAcquire(promise));
+        }
+        return promise;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return release(channel, executor.newPromise());
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        if (channel instanceof Http2StreamChannel) {
+            // a stream can't be reused, closing it hands its slot back to the connection
+            channel.close().addListener(future -> promise.trySuccess(null));
+        } else {
+            executor.execute(() -> {
+                for (Connection connection : connections) {
+                    if (connection.channel == channel) {
+                        streamClosed(connection);
+                        break;
+                    }
+                }
+                promise.trySuccess(null);
+            });
+        }
+        return promise;
+    }
+
+    @Override
+    public void close() {
+        if (executor.inEventLoop()) {
+            doClose();
+        } else {
+            executor.execute(this::doClose);
+        }
+    }
+
+    private void doClose() {
+        closed = true;
+        failPendingAcquires(new IllegalStateException("Channel pool is closed"));
+        for (Connection connection : connections) {
+            connection.channel.close();
+        }
+        connections.clear();
+    }
+
+    private void doAcquire(Promise<Channel> promise) {
+        if (closed) {
+            promise.tryFailure(new IllegalStateException("Channel pool is closed"));
+            return;
+        }
+        Connection connection = availableConnection();
+        if (connection != null) {
+            openStream(connection, promise);
+            return;
+        }
+        if (pendingAcquires.size() >= maxPendingAcquires) {
+            promise.tryFailure(new IllegalStateException("Too many outstanding acquire operations"));
+            return;
+        }
+        pendingAcquires.add(promise);
+        if (acquireTimeoutMillis > -1) {
+            ScheduledFuture<?> timeout = executor.schedule(() -> {
+                if (pendingAcquires.remove(promise)) {
+                    promise.tryFailure(new TimeoutException("Acquire operation took longer than configured maximum time"));
+                }
+            }, acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            promise.addListener(future -> timeout.cancel(false));
+        }
+        connectIfNecessary();
+    }
+
+    private Connection availableConnection() {
+        for (Connection connection : connections) {
+            if (connection.canOpenStream()) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    private void connectIfNecessary() {
+        if (pendingAcquires.isEmpty()) {
+            return;
+        }
+        for (Connection connection : connections) {
+            if (!connection.ready) {
+                // wait for the connection that is being established to announce how many streams it takes
+                return;
+            }
+        }
+        if (maxConnections > -1 && connections.size() >= maxConnections) {
+            return;
+        }
+        Connection connection = new Connection();
+        connections.add(connection);
+        Bootstrap connectionBootstrap = bootstrap.clone();
+        connectionBootstrap.handler(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                initConnection(ch, new ConnectionStateHandler(connection));
+            }
+        });
+        ChannelFuture connectFuture = connectionBootstrap.connect();
+        connection.channel = connectFuture.channel();
+        connectFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                Throwable cause = future.cause();
+                executor.execute(() -> connectionClosed(connection, cause));
+            }
+        });
+        connection.channel.closeFuture().addListener(future -> {
+            SslHandler sslHandler = connection.channel.pipeline().get(SslHandler.class);
+            Throwable cause = sslHandler != null ? sslHandler.handshakeFuture().cause() : null;
+            executor.execute(() -> connectionClosed(connection, cause));
+        });
+    }
+
+    private void connectionClosed(Connection connection, Throwable cause) {
+        if (!connections.remove(connection)) {
+            return;
+        }
+        if (connection.ready) {
+            dispatchPendingAcquires();
+        } else {
+            // fail the acquires that waited for this connection rather than reconnect to an origin that can't be reached
+            failPendingAcquires(cause != null ? cause : new HttpClientException("Connection closed before it could be used"));
+        }
+    }
+
+    private void connectionReady(Connection connection) {
+        connection.ready = true;
+        dispatchPendingAcquires();
+    }
+
+    private void dispatchPendingAcquires() {
+        while (!pendingAcquires.isEmpty()) {
+            Connection connection = availableConnection();
+            if (connection == null) {
+                connectIfNecessary();
+                return;
+            }
+            Promise<Channel> promise = pendingAcquires.poll();
+            if (!promise.isDone()) {
+                openStream(connection, promise);
+            }
+        }
+    }
+
+    private void failPendingAcquires(Throwable cause) {
+        Promise<Channel> promise;
+        while ((promise = pendingAcquires.poll()) != null) {
+            promise.tryFailure(cause);
+        }
+    }
+
+    private void openStream(Connection connection, Promise<Channel> promise) {
+        connection.streams++;
+        if (connection.http1) {
+            if (!promise.trySuccess(connection.channel)) {
+                streamClosed(connection);
+            }
+            return;
+        }
+        new Http2StreamChannelBootstrap(connection.channel)
+                .handler(new ChannelInitializer<Http2StreamChannel>() {
+                    @Override
+                    protected void initChannel(Http2StreamChannel ch) {
+                        initStream(ch);
+                    }
+                })
+                .open()
+                .addListener((Future<Http2StreamChannel> future) -> {
+                    if (future.isSuccess()) {
+                        Http2StreamChannel stream = future.getNow();
+                        stream.closeFuture().addListener(f -> executor.execute(() -> streamClosed(connection)));
+                        if (!promise.trySuccess(stream)) {
+                            stream.close();
+                        }
+                    } else {
+                        executor.execute(() -> streamClosed(connection));
+                        promise.tryFailure(future.cause());
+                    }
+                });
+    }
+
+    private void streamClosed(Connection connection) {
+        connection.streams--;
+        if (connection.streams == 0 && connection.isDraining()) {
+            closeConnection(connection);
+        }
+        dispatchPendingAcquires();
+    }
+
+    private void closeConnection(Connection connection) {
+        // remove the connection right away, so that it neither takes new streams nor counts towards the maximum
+        connections.remove(connection);
+        connection.channel.close();
+    }
+
+    /**
+     * The state of a single connection.
+     */
+    private static final class Connection {
+        Channel channel;
+        Http2ConnectionHandler connectionHandler;
+        boolean ready;
+        boolean http1;
+        boolean goAway;
+        int maxStreams = Integer.MAX_VALUE;
+        int streams;
+
+        boolean isDraining() {
+            // the codec records a GOAWAY before the frame reaches the pool, so ask it as well
+            return goAway ||
+                    (connectionHandler != null && connectionHandler.connection().goAwayReceived()) ||
+                    Boolean.TRUE.equals(channel.attr(ConnectTTLHandler.RELEASE_CHANNEL).get());
+        }
+
+        boolean canOpenStream() {
+            return ready && streams < maxStreams && channel.isActive() && !isDraining();
+        }
+    }
+
+    /**
+     * Reports the settings, GOAWAY frames and idle events of a connection to the pool.
+     */
+    private final class ConnectionStateHandler extends ChannelInboundHandlerAdapter {
+
+        private final Connection connection;
+
+        /**
+         * @param connection The connection to report on
+         */
+        ConnectionStateHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) {
+            Http2ConnectionHandler connectionHandler = ctx.pipeline().get(Http2ConnectionHandler.class);
+            if (connectionHandler != null) {
+                executor.execute(() -> connection.connectionHandler = connectionHandler);
+            } else {
+                executor.execute(() -> {
+                    connection.http1 = true;
+                    connection.maxStreams = 1;
+                    connectionReady(connection);
+                });
+            }
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof Http2SettingsFrame) {
+                Long maxConcurrentStreams = ((Http2SettingsFrame) msg).settings().maxConcurrentStreams();
+                executor.execute(() -> {
+                    if (maxConcurrentStreams != null) {
+                        connection.maxStreams = (int) Math.min(maxConcurrentStreams, Integer.MAX_VALUE);
+                    }
+                    connectionReady(connection);
+                });
+            } else if (msg instanceof Http2GoAwayFrame) {
+                ReferenceCountUtil.release(msg);
+                executor.execute(() -> {
+                    connection.goAway = true;
+                    if (connection.streams == 0) {
+                        closeConnection(connection);
+                    }
+                    dispatchPendingAcquires();
+                });
+            } else {
+                ctx.fireChannelRead(msg);
+            }
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+            if (evt instanceof IdleStateEvent) {
+                executor.execute(() -> {
+                    if (connection.ready && connection.streams == 0) {
+                        closeConnection(connection);
+                    }
+                });
+            }
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.client.netty;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpRequest;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An in-memory cache for the responses to {@code GET} requests of a {@link DefaultHttpClient}. It follows the
+ * freshness rules of RFC 7234: a response is served from the cache while it is fresh according to its
+ * {@code Cache-Control} or {@code Expires} headers, and a stale response with an {@code ETag} is revalidated with an
+ * {@code If-None-Match} request.
+ *
+ * <p>A client is usually shared by all callers of an application, so the cache behaves like a shared cache. Requests
+ * with an {@code Authorization} or {@code Cookie} header are not cached, and neither are responses marked
+ * {@code private} or that set cookies.</p>
+ *
+ * <p>The cache is bounded by the number of bytes of the cached responses, and concurrent
+ * misses for the same URI wait for a single request.</p>
+ *
+ * <p>The cache sits at the end of the filter chain of the client, so that filters are applied to cached
+ * responses as well.</p>
+ *
+ * @since 2.5.12
+ */
+public final class HttpResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpClient.class);
+    private static final String CACHE_KEY = "micronaut.http.client.cache.key";
+    private static final String REVALIDATED_RESPONSE = "micronaut.http.client.cache.revalidatedResponse";
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String PRIVATE = "private";
+    private static final String MAX_AGE = "max-age";
+    private static final int MAX_UNCACHEABLE_URIS = 1000;
+    private static final String[] HOP_BY_HOP_HEADERS = {
+            HttpHeaders.CONNECTION,
+            "Keep-Alive",
+            HttpHeaders.PROXY_AUTHENTICATE,
+            HttpHeaders.PROXY_AUTHORIZATION,
+            HttpHeaders.TE,
+            HttpHeaders.TRAILER,
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.UPGRADE
+    };
+
+    private final Map<String, CachedResponse> responses;
+    private final Map<String, CompletableFuture<Void>> pendingRequests = new ConcurrentHashMap<>();
+    // the URIs whose last response could not be stored, requests for them are not coalesced
+    private final Map<String, Boolean> uncacheableUris = new ConcurrentLinkedHashMap.Builder<String, Boolean>()
+            .maximumWeightedCapacity(MAX_UNCACHEABLE_URIS)
+            .build();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidationCount = new LongAdder();
+
+    /**
+     * @param maxSize The maximum number of bytes of cached responses
+     */
+    HttpResponseCache(long maxSize) {
+        this.responses = new ConcurrentLinkedHashMap.Builder<String, CachedResponse>()
+                .maximumWeightedCapacity(maxSize)
+                .weigher(CachedResponse::getWeight)
+                .build();
+    }
+
+    /**
+     * @return The number of requests that were answered from the cache without a request to the server
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return The number of cacheable requests that were sent to the server
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return The number of stale responses that the server confirmed as still valid
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.sum();
+    }
+
+    /**
+     * @return The number of cached responses
+     */
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void clear() {
+        responses.clear();
+        uncacheableUris.clear();
+    }
+
+    /**
+     * Answers the request in the given wrapper from the cache, or sends it with the given network publisher. The
+     * request is read on subscription, after the filters of the client have been applied.
+     *
+     * @param requestWrapper  The reference to the request
+     * @param network         The publisher sending the request to the server
+     * @param cachedResponse  Creates the response publisher for a cached response
+     * @param <O>             The body type
+     * @return The response publisher
+     */
+    <O> Flowable<HttpResponse<O>> exchange(
+            AtomicReference<HttpRequest> requestWrapper,
+            Flowable<HttpResponse<O>> network,
+            Function<FullHttpResponse, Flowable<HttpResponse<O>>> cachedResponse) {
+        return Flowable.defer(() -> {
+            HttpRequest<?> request = requestWrapper.get();
+            if (request.getAttributes().contains(REVALIDATED_RESPONSE)) {
+                // the request is sent again, for example by a retry
+                ((MutableHttpRequest<?>) request).getHeaders().remove(HttpHeaders.IF_NONE_MATCH);
+                request.getAttributes().remove(REVALIDATED_RESPONSE);
+            }
+            request.getAttributes().remove(CACHE_KEY);
+
+            String key = request.getUri().toString();
+            if (request.getMethod() != HttpMethod.GET) {
+                if (!isSafe(request.getMethod())) {
+                    responses.remove(key);
+                }
+                return network;
+            }
+            if (!(request instanceof MutableHttpRequest) || !isCacheable(request)) {
+                return network;
+            }
+
+            return lookup(request, key, network, cachedResponse, true);
+        });
+    }
+
+    /**
+     * Stores the given response to a request sent through {@link #exchange(AtomicReference, Flowable, Function)}.
+     * If the response confirms that a stale cached response is still valid, the cached response is returned instead.
+     *
+     * @param request  The request
+     * @param response The response received from the server
+     * @return The response to return to the caller
+     */
+    @NonNull
+    FullHttpResponse onResponse(@NonNull HttpRequest<?> request, @NonNull FullHttpResponse response) {
+        String key = request.getAttributes().get(CACHE_KEY, String.class).orElse(null);
+        if (key == null) {
+            return response;
+        }
+        long now = System.currentTimeMillis();
+        int status = response.status().code();
+        CachedResponse revalidated = request.getAttributes().get(REVALIDATED_RESPONSE, CachedResponse.class).orElse(null);
+        if (status == HttpResponseStatus.NOT_MODIFIED.code() && revalidated != null) {
+            revalidationCount.increment();
+            CachedResponse updated = revalidated.update(response.headers(), now);
+            if (updated.isStorable()) {
+                responses.put(key, updated);
+            } else {
+                responses.remove(key, revalidated);
+            }
+            return updated.toFullHttpResponse(response.protocolVersion());
+        }
+        if (status == HttpResponseStatus.OK.code()) {
+            CachedResponse cached = CachedResponse.of(request, response, now);
+            if (cached.isStorable()) {
+                responses.put(key, cached);
+                uncacheableUris.remove(key);
+                return response;
+            }
+        }
+        responses.remove(key);
+        uncacheableUris.put(key, Boolean.TRUE);
+        return response;
+    }
+
+    /**
+     * @param request        The request
+     * @param key            The cache key of the request
+     * @param network        The publisher sending the request to the server
+     * @param cachedResponse Creates the response publisher for a cached response
+     * @param coalesce       Whether to wait for a request for the same URI that is in flight
+     * @param <O>            The body type
+     * @return The response publisher
+     */
+    private <O> Flowable<HttpResponse<O>> lookup(
+            HttpRequest<?> request,
+            String key,
+            Flowable<HttpResponse<O>> network,
+            Function<FullHttpResponse, Flowable<HttpResponse<O>>> cachedResponse,
+            boolean coalesce) {
+        List<String> cacheControl = request.getHeaders().getAll(HttpHeaders.CACHE_CONTROL);
+        boolean noCache = hasDirective(cacheControl, NO_CACHE) ||
+                hasDirective(request.getHeaders().getAll(HttpHeaders.PRAGMA), NO_CACHE);
+        CachedResponse cached = responses.get(key);
+        if (cached != null && !cached.matches(request)) {
+            cached = null;
+        }
+        if (noCache) {
+            return send(request, key, cached, network);
+        }
+        if (cached != null && cached.isFresh(System.currentTimeMillis(), directive(cacheControl, MAX_AGE))) {
+            hitCount.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Returning cached response for {}", key);
+            }
+            return cachedResponse.apply(cached.toFullHttpResponse(null));
+        }
+        if (!coalesce || (cached == null && uncacheableUris.containsKey(key))) {
+            return send(request, key, cached, network);
+        }
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        CompletableFuture<Void> existing = pendingRequests.putIfAbsent(key, pending);
+        if (existing != null) {
+            // another request for the same URI is in flight. Use its response if it could be stored, otherwise
+            // send this request right away instead of waiting behind the next one
+            return Flowable.fromPublisher(Publishers.fromCompletableFuture(existing))
+                    .ignoreElements()
+                    .andThen(Flowable.defer(() -> lookup(request, key, network, cachedResponse, false)));
+        }
+        return send(request, key, cached, network)
+                .doFinally(() -> {
+                    pendingRequests.remove(key, pending);
+                    pending.complete(null);
+                });
+    }
+
+    private <O> Flowable<HttpResponse<O>> send(
+            HttpRequest<?> request,
+            String key,
+            @Nullable CachedResponse cached,
+            Flowable<HttpResponse<O>> network) {
+        missCount.increment();
+        request.setAttribute(CACHE_KEY, key);
+        if (cached != null && cached.etag != null) {
+            ((MutableHttpRequest<?>) request).header(HttpHeaders.IF_NONE_MATCH, cached.etag);
+            request.setAttribute(REVALIDATED_RESPONSE, cached);
+        }
+        return network;
+    }
+
+    private static boolean isSafe(HttpMethod method) {
+        return method == HttpMethod.HEAD || method == HttpMethod.OPTIONS || method == HttpMethod.TRACE;
+    }
+
+    private static boolean isCacheable(HttpRequest<?> request) {
+        HttpHeaders headers = request.getHeaders();
+        return !headers.contains(HttpHeaders.AUTHORIZATION) &&
+                !headers.contains(HttpHeaders.COOKIE) &&
+                !headers.contains(HttpHeaders.IF_NONE_MATCH) &&
+                !headers.contains(HttpHeaders.IF_MODIFIED_SINCE) &&
+                !headers.contains(HttpHeaders.RANGE) &&
+                !hasDirective(headers.getAll(HttpHeaders.CACHE_CONTROL), NO_STORE) &&
+                !request.getBody().isPresent();
+    }
+
+    private static boolean hasDirective(List<String> cacheControl, String name) {
+        return directive(cacheControl, name) != null;
+    }
+
+    /**
+     * @param cacheControl The values of the {@code Cache-Control} headers
+     * @param name         The name of the directive
+     * @return The value of the directive, an empty string for a directive without value or {@code null} if absent
+     */
+    @Nullable
+    private static String directive(List<String> cacheControl, String name) {
+        for (String value : cacheControl) {
+            for (String directive : StringUtils.splitOmitEmptyStrings(value, ',')) {
+                directive = directive.trim();
+                int i = directive.indexOf('=');
+                String directiveName = i > -1 ? directive.substring(0, i).trim() : directive;
+                if (directiveName.equalsIgnoreCase(name)) {
+                    return i > -1 ? directive.substring(i + 1).trim().replace("\"", "") : "";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param value The value of a directive or header
+     * @return The number of seconds, or -1 if the value is not a number
+     */
+    private static long seconds(@Nullable String value) {
+        if (StringUtils.isEmpty(value)) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long time(io.netty.handler.codec.http.HttpHeaders headers, CharSequence name, long defaultValue) {
+        String value = headers.get(name);
+        if (value != null) {
+            Date date = DateFormatter.parseHttpDate(value);
+            if (date != null) {
+                return date.getTime();
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * A response held by the cache.
+     */
+    private static final class CachedResponse {
+
+        private final io.netty.handler.codec.http.HttpHeaders headers;
+        private final byte[] body;
+        private final Map<String, List<String>> varyingRequestHeaders;
+        @Nullable
+        private final String etag;
+        private final long responseTime;
+        private final long initialAgeMillis;
+        private final long freshnessLifetimeMillis;
+        private final boolean storable;
+
+        private CachedResponse(
+                io.netty.handler.codec.http.HttpHeaders headers,
+                byte[] body,
+                Map<String, List<String>> varyingRequestHeaders,
+                long responseTime) {
+            this.headers = headers;
+            this.body = body;
+            this.varyingRequestHeaders = varyingRequestHeaders;
+            this.etag = headers.get(HttpHeaders.ETAG);
+            this.responseTime = responseTime;
+
+            List<String> cacheControl = headers.getAll(HttpHeaders.CACHE_CONTROL);
+            long date = time(headers, HttpHeaders.DATE, responseTime);
+            long age = seconds(headers.get(HttpHeaders.AGE));
+            this.initialAgeMillis = Math.max(Math.max(0, responseTime - date), TimeUnit.SECONDS.toMillis(age));
+            long maxAge = seconds(directive(cacheControl, MAX_AGE));
+            if (hasDirective(cacheControl, NO_CACHE)) {
+                this.freshnessLifetimeMillis = 0;
+            } else if (maxAge > -1) {
+                this.freshnessLifetimeMillis = TimeUnit.SECONDS.toMillis(maxAge);
+            } else {
+                // an invalid Expires header means the response has already expired
+                this.freshnessLifetimeMillis = headers.contains(HttpHeaders.EXPIRES) ?
+                        Math.max(0, time(headers, HttpHeaders.EXPIRES, date) - date) : 0;
+            }
+            // the client is usually shared by all callers, so responses for a single user are not stored
+            this.storable = !hasDirective(cacheControl, NO_STORE) &&
+                    !hasDirective(cacheControl, PRIVATE) &&
+                    !headers.contains(HttpHeaders.SET_COOKIE) &&
+                    !varyingRequestHeaders.containsKey("*") &&
+                    (freshnessLifetimeMillis > 0 || etag != null);
+        }
+
+        static CachedResponse of(HttpRequest<?> request, FullHttpResponse response, long responseTime) {
+            io.netty.handler.codec.http.HttpHeaders headers = new DefaultHttpHeaders().set(response.headers());
+            for (String name : HOP_BY_HOP_HEADERS) {
+                headers.remove(name);
+            }
+            Map<String, List<String>> varyingRequestHeaders = Collections.emptyMap();
+            List<String> vary = headers.getAll(HttpHeaders.VARY);
+            if (!vary.isEmpty()) {
+                varyingRequestHeaders = new LinkedHashMap<>();
+                for (String value : vary) {
+                    for (String name : StringUtils.splitOmitEmptyStrings(value, ',')) {
+                        name = name.trim();
+                        varyingRequestHeaders.put(name, request.getHeaders().getAll(name));
+                    }
+                }
+            }
+            return new CachedResponse(headers, ByteBufUtil.getBytes(response.content()), varyingRequestHeaders, responseTime);
+        }
+
+        /**
+         * @param notModifiedHeaders The headers of a 304 response
+         * @param responseTime       The time the 304 response was received
+         * @return A copy of this response with the updated headers
+         */
+        CachedResponse update(io.netty.handler.codec.http.HttpHeaders notModifiedHeaders, long responseTime) {
+            io.netty.handler.codec.http.HttpHeaders updatedHeaders = new DefaultHttpHeaders().set(headers);
+            for (String name : notModifiedHeaders.names()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isHopByHop(name)) {
+                    updatedHeaders.set(name, notModifiedHeaders.getAll(name));
+                }
+            }
+            return new CachedResponse(updatedHeaders, body, varyingRequestHeaders, responseTime);
+        }
+
+        /**
+         * @param request The request
+         * @return Whether the headers the response varies by are the same in the request
+         */
+        boolean matches(HttpRequest<?> request) {
+            for (Map.Entry<String, List<String>> entry : varyingRequestHeaders.entrySet()) {
+                if (!Objects.equals(entry.getValue(), request.getHeaders().getAll(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @param now    The current time
+         * @param maxAge The {@code max-age} directive of the request
+         * @return Whether the response may be returned without revalidation
+         */
+        boolean isFresh(long now, @Nullable String maxAge) {
+            long currentAge = currentAge(now);
+            long maxAgeSeconds = seconds(maxAge);
+            if (maxAgeSeconds > -1 && currentAge > TimeUnit.SECONDS.toMillis(maxAgeSeconds)) {
+                return false;
+            }
+            return freshnessLifetimeMillis > currentAge;
+        }
+
+        boolean isStorable() {
+            return storable;
+        }
+
+        int getWeight() {
+            // an approximation of the size of the headers
+            return Math.max(1, body.length + headers.size() * 64);
+        }
+
+        /**
+         * @param version The HTTP version of the response, or {@code null} for HTTP/1.1
+         * @return A new response with the cached status, headers and body
+         */
+        FullHttpResponse toFullHttpResponse(@Nullable HttpVersion version) {
+            io.netty.handler.codec.http.HttpHeaders responseHeaders = new DefaultHttpHeaders().set(headers);
+            responseHeaders.set(HttpHeaders.AGE, TimeUnit.MILLISECONDS.toSeconds(currentAge(System.currentTimeMillis())));
+            return new DefaultFullHttpResponse(
+                    version != null ? version : HttpVersion.HTTP_1_1,
+                    HttpResponseStatus.OK,
+                    Unpooled.wrappedBuffer(body),
+                    responseHeaders,
+                    EmptyHttpHeaders.INSTANCE
+            );
+        }
+
+        private long currentAge(long now) {
+            return initialAgeMillis + Math.max(0, now - responseTime);
+        }
+
+        private static boolean isHopByHop(String name) {
+            for (String hopByHop : HOP_BY_HOP_HEADERS) {
+                if (hopByHop.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
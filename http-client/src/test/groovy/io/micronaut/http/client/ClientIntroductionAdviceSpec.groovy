@@ -27,8 +27,10 @@ import io.micronaut.http.annotation.Header
 import io.micronaut.http.annotation.Post
 import io.micronaut.http.annotation.Put
 import io.micronaut.http.client.annotation.Client
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
 import io.micronaut.runtime.server.EmbeddedServer
 import spock.lang.Specification
+import spock.util.environment.RestoreSystemProperties
 
 class ClientIntroductionAdviceSpec extends Specification {
 
@@ -77,6 +79,54 @@ class ClientIntroductionAdviceSpec extends Specification {
         ctx.close()
     }
 
+    void "test repeated calls to a client method bind the arguments of each call"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer)
+        ApplicationContext ctx = ApplicationContext.run()
+        ctx.registerSingleton(new TestServiceInstanceList(server.getURI()))
+
+        when:
+        OfferClient client = ctx.getBean(OfferClient)
+
+        then:
+        client.post('abc', 'bar') == 'abc header=bar'
+        client.post('def', 'baz') == 'def header=baz'
+        client.index() == 'offer'
+        client.post('abc', 'bar') == 'abc header=bar'
+
+        cleanup:
+        server.close()
+        ctx.close()
+    }
+
+    @RestoreSystemProperties
+    void "test header placeholders are resolved again after a refresh"() {
+        given:
+        System.setProperty('offer.header', 'first')
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer)
+        ApplicationContext ctx = ApplicationContext.run()
+        ctx.registerSingleton(new TestServiceInstanceList(server.getURI()))
+
+        when:
+        PlaceholderOfferClient client = ctx.getBean(PlaceholderOfferClient)
+
+        then:
+        client.post('abc') == 'abc header=first'
+        client.post('abc') == 'abc header=first'
+
+        when:
+        System.setProperty('offer.header', 'second')
+        ctx.environment.refresh()
+        ctx.publishEvent(new RefreshEvent())
+
+        then:
+        client.post('abc') == 'abc header=second'
+
+        cleanup:
+        server.close()
+        ctx.close()
+    }
+
     void "test a client that auto encodes basic auth header"() {
         given:
         EmbeddedServer server = ApplicationContext.run(EmbeddedServer)
@@ -244,6 +294,13 @@ class ClientIntroductionAdviceSpec extends Specification {
         String post(@Body String data, @Header String foo)
     }
 
+    @Client(id="test-service", path="/offers")
+    @Header(name="foo", value='${offer.header}')
+    static interface PlaceholderOfferClient {
+        @Post(produces = MediaType.TEXT_PLAIN, consumes = MediaType.TEXT_PLAIN)
+        String post(@Body String data)
+    }
+
     @Client("/offers")
     static interface LocalOfferClient {
 
@@ -0,0 +1,53 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.netty.DefaultHttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.resolver.DefaultAddressResolverGroup
+import io.netty.resolver.dns.DnsAddressResolverGroup
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class DnsResolutionSpec extends Specification {
+
+    @Unroll
+    void "test resolving the host name with DNS resolution mode #mode"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                "spec.name": DnsResolutionSpec.simpleName,
+                "micronaut.http.client.dns-resolution-mode": mode,
+                "micronaut.http.client.dns-negative-ttl": "5s"
+        ])
+        DefaultHttpClient client = (DefaultHttpClient) embeddedServer.applicationContext.createBean(HttpClient, new URL("http://localhost:$embeddedServer.port"))
+
+        expect:
+        embeddedServer.applicationContext.getBean(HttpClientConfiguration).dnsResolutionMode == expected
+        client.bootstrap.config().resolver().getClass() == resolverGroupType
+        client.toBlocking().retrieve("/dns-resolution") == "resolved"
+        client.toBlocking().retrieve("/dns-resolution") == "resolved"
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+
+        where:
+        mode          | expected                                             | resolverGroupType
+        "default"     | HttpClientConfiguration.DnsResolutionMode.DEFAULT     | DefaultAddressResolverGroup
+        "async"       | HttpClientConfiguration.DnsResolutionMode.ASYNC       | DnsAddressResolverGroup
+        "round-robin" | HttpClientConfiguration.DnsResolutionMode.ROUND_ROBIN | RoundRobinDnsAddressResolverGroup
+    }
+
+    @Requires(property = "spec.name", value = "DnsResolutionSpec")
+    @Controller("/dns-resolution")
+    static class DnsResolutionController {
+
+        @Get
+        String index() {
+            "resolved"
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.micronaut.http.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.netty.DefaultHttpClient
+import io.micronaut.http.client.netty.HttpResponseCache
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import io.reactivex.Single
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.IntBinaryOperator
+
+class ResponseCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'ResponseCacheSpec',
+            'micronaut.http.client.response-cache-enabled': true
+    ])
+
+    DefaultHttpClient client
+    CacheController controller
+
+    void setup() {
+        client = (DefaultHttpClient) embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        controller = embeddedServer.applicationContext.getBean(CacheController)
+        controller.reset()
+    }
+
+    void cleanup() {
+        client.close()
+    }
+
+    void "test a fresh response is returned from the cache"() {
+        expect:
+        client.toBlocking().retrieve('/cache/max-age') == 'fresh 1'
+        client.toBlocking().retrieve('/cache/max-age') == 'fresh 1'
+
+        when:
+        HttpResponse<String> response = client.toBlocking().exchange('/cache/max-age', String)
+
+        then:
+        response.body() == 'fresh 1'
+        response.header(HttpHeaders.AGE) != null
+        controller.calls.get() == 1
+        cache.hitCount == 2
+        cache.missCount == 1
+    }
+
+    void "test a request with no-cache is sent to the server"() {
+        when:
+        client.toBlocking().retrieve('/cache/max-age')
+        String body = client.toBlocking().retrieve(HttpRequest.GET('/cache/max-age').header(HttpHeaders.CACHE_CONTROL, 'no-cache'))
+
+        then:
+        body == 'fresh 2'
+        controller.calls.get() == 2
+        cache.hitCount == 0
+    }
+
+    void "test a stale response is revalidated with its ETag"() {
+        expect:
+        client.toBlocking().retrieve('/cache/etag') == 'tagged 1'
+        client.toBlocking().retrieve('/cache/etag') == 'tagged 1'
+        client.toBlocking().retrieve('/cache/etag') == 'tagged 1'
+        controller.calls.get() == 3
+        controller.notModified.get() == 2
+        cache.revalidationCount == 2
+        cache.hitCount == 0
+    }
+
+    void "test responses with no-store are not cached"() {
+        expect:
+        client.toBlocking().retrieve('/cache/no-store') == 'stored 1'
+        client.toBlocking().retrieve('/cache/no-store') == 'stored 2'
+        cache.size() == 0
+    }
+
+    void "test responses for a single user are not cached"() {
+        expect:
+        client.toBlocking().retrieve('/cache/private') == 'private 1'
+        client.toBlocking().retrieve('/cache/private') == 'private 2'
+        client.toBlocking().retrieve(HttpRequest.GET('/cache/max-age').header(HttpHeaders.COOKIE, 'session=1')) == 'fresh 3'
+        client.toBlocking().retrieve(HttpRequest.GET('/cache/max-age').header(HttpHeaders.COOKIE, 'session=2')) == 'fresh 4'
+        cache.size() == 0
+        cache.hitCount == 0
+    }
+
+    void "test a POST request removes the cached response"() {
+        when:
+        client.toBlocking().retrieve('/cache/max-age')
+        client.toBlocking().retrieve(HttpRequest.POST('/cache/max-age', 'update'))
+
+        then:
+        client.toBlocking().retrieve('/cache/max-age') == 'fresh 2'
+        controller.calls.get() == 2
+    }
+
+    void "test concurrent misses for the same URI send a single request"() {
+        when:
+        List<String> bodies = Flowable.range(1, 5)
+                .flatMap({ client.retrieve(HttpRequest.GET('/cache/slow'), String) })
+                .toList()
+                .blockingGet()
+
+        then:
+        bodies == ['slow 1'] * 5
+        controller.calls.get() == 1
+        cache.missCount == 1
+        cache.hitCount == 4
+    }
+
+    void "test concurrent requests for responses that cannot be stored are not serialized"() {
+        when:
+        List<String> bodies = (1..2).collectMany {
+            Flowable.range(1, 5)
+                    .flatMap({ client.retrieve(HttpRequest.GET('/cache/slow-no-store'), String) })
+                    .toList()
+                    .blockingGet()
+        }
+
+        then:
+        bodies.toSet().size() == 10
+        controller.calls.get() == 10
+        controller.maxConcurrentCalls.get() > 1
+        cache.size() == 0
+    }
+
+    void "test the cache is disabled by default"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        DefaultHttpClient defaultClient = (DefaultHttpClient) context.createBean(HttpClient, embeddedServer.URL)
+
+        expect:
+        !defaultClient.responseCache.isPresent()
+        defaultClient.toBlocking().retrieve('/cache/max-age') == 'fresh 1'
+        defaultClient.toBlocking().retrieve('/cache/max-age') == 'fresh 2'
+
+        cleanup:
+        defaultClient.close()
+        context.close()
+    }
+
+    private HttpResponseCache getCache() {
+        client.responseCache.get()
+    }
+
+    @Requires(property = 'spec.name', value = 'ResponseCacheSpec')
+    @Controller('/cache')
+    static class CacheController {
+
+        final AtomicInteger calls = new AtomicInteger()
+        final AtomicInteger notModified = new AtomicInteger()
+        final AtomicInteger concurrentCalls = new AtomicInteger()
+        final AtomicInteger maxConcurrentCalls = new AtomicInteger()
+
+        void reset() {
+            calls.set(0)
+            notModified.set(0)
+            concurrentCalls.set(0)
+            maxConcurrentCalls.set(0)
+        }
+
+        @Get('/max-age')
+        HttpResponse<String> maxAge() {
+            HttpResponse.ok('fresh ' + calls.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, 'max-age=60')
+        }
+
+        @Get('/private')
+        HttpResponse<String> privateResponse() {
+            HttpResponse.ok('private ' + calls.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, 'private, max-age=60')
+        }
+
+        @Post('/max-age')
+        String update() {
+            'updated'
+        }
+
+        @Get('/etag')
+        HttpResponse<String> etag(@Header('If-None-Match') Optional<String> ifNoneMatch) {
+            calls.incrementAndGet()
+            if (ifNoneMatch.orElse(null) == '"v1"') {
+                notModified.incrementAndGet()
+                return HttpResponse.<String>status(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, '"v1"')
+            }
+            HttpResponse.ok('tagged 1').header(HttpHeaders.ETAG, '"v1"').header(HttpHeaders.CACHE_CONTROL, 'no-cache')
+        }
+
+        @Get('/no-store')
+        HttpResponse<String> noStore() {
+            HttpResponse.ok('stored ' + calls.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, 'no-store')
+        }
+
+        @Get('/slow')
+        Single<HttpResponse<String>> slow() {
+            Single.fromCallable({ HttpResponse.ok('slow ' + calls.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, 'max-age=60') })
+                    .delay(200, TimeUnit.MILLISECONDS)
+        }
+
+        @Get('/slow-no-store')
+        Single<HttpResponse<String>> slowNoStore() {
+            maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), { a, b -> Math.max(a, b) } as IntBinaryOperator)
+            Single.fromCallable({ HttpResponse.ok('not stored ' + calls.incrementAndGet()).header(HttpHeaders.CACHE_CONTROL, 'no-store') })
+                    .delay(200, TimeUnit.MILLISECONDS)
+                    .doFinally({ concurrentCalls.decrementAndGet() })
+        }
+    }
+}
@@ -55,6 +55,10 @@ class DefaultHttpClientConfigurationSpec extends Specification {
         'shutdown-quiet-period'     | 'shutdownQuietPeriod'    | '2s'    | Optional.of(Duration.ofSeconds(2))
         'shutdown-timeout'          | 'shutdownTimeout'        | '100ms' | Optional.of(Duration.ofMillis(100))
         'shutdown-timeout'          | 'shutdownTimeout'        | '15s'   | Optional.of(Duration.ofSeconds(15))
+        'dns-max-ttl'               | 'dnsMaxTtl'              | '30s'   | Optional.of(Duration.ofSeconds(30))
+        'dns-negative-ttl'          | 'dnsNegativeTtl'         | '5s'    | Optional.of(Duration.ofSeconds(5))
+        'response-cache-enabled'    | 'responseCacheEnabled'   | 'true'  | true
+        'response-cache-max-size'   | 'responseCacheMaxSize'   | '1MB'   | 1024 * 1024
     }
 
 
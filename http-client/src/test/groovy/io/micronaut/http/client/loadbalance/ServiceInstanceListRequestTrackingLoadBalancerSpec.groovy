@@ -0,0 +1,182 @@
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.StaticServiceInstanceList
+import io.micronaut.discovery.exceptions.NoAvailableServiceException
+import io.micronaut.health.HealthStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.LoadBalancerResolver
+import io.micronaut.http.client.annotation.Client
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+class ServiceInstanceListRequestTrackingLoadBalancerSpec extends Specification {
+
+    ServiceInstance one = ServiceInstance.of("test", new URI("http://one"))
+    ServiceInstance two = ServiceInstance.of("test", new URI("http://two"))
+    ServiceInstance three = ServiceInstance.of("test", new URI("http://three"))
+
+    void "test least outstanding requests selects the instance with the fewest requests in flight"() {
+        given:
+        def balancer = loadBalancer(LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS, [one, two, three])
+
+        when:
+        balancer.requestStarted(one)
+        balancer.requestStarted(one)
+        balancer.requestStarted(two)
+
+        then:
+        select(balancer).URI == three.URI
+
+        when:
+        balancer.requestStarted(three)
+        balancer.requestStarted(three)
+        balancer.requestFinished(one, 1000)
+
+        then:
+        balancer.getOutstandingRequests(one) == 1
+        [one.URI, two.URI].contains(select(balancer).URI)
+    }
+
+    void "test EWMA latency prefers the faster instance"() {
+        given:
+        def balancer = loadBalancer(LoadBalancingStrategy.EWMA_LATENCY, [one, two])
+
+        when:
+        balancer.requestStarted(one)
+        balancer.requestFinished(one, 50_000_000)
+        balancer.requestStarted(two)
+        balancer.requestFinished(two, 1_000_000)
+
+        then:
+        (1..10).every { select(balancer).URI == two.URI }
+    }
+
+    void "test failed requests are not recorded as response times"() {
+        given:
+        def balancer = loadBalancer(LoadBalancingStrategy.EWMA_LATENCY, [one, two])
+
+        when:
+        balancer.requestStarted(one)
+        balancer.requestFinished(one, 1_000_000)
+        balancer.requestStarted(two)
+        balancer.requestFinished(two, 5_000_000)
+        10.times {
+            balancer.requestStarted(one)
+            balancer.requestFailed(one)
+        }
+
+        then:
+        balancer.getOutstandingRequests(one) == 0
+        (1..10).every { select(balancer).URI == one.URI }
+    }
+
+    void "test the statistics of removed instances are dropped"() {
+        given:
+        List<ServiceInstance> instances = [one, two]
+        def balancer = loadBalancer(LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS, instances)
+
+        when:
+        balancer.requestStarted(one)
+        balancer.requestStarted(two)
+        select(balancer)
+
+        then:
+        balancer.getOutstandingRequests(one) == 1
+
+        when:
+        instances.remove(one)
+        select(balancer)
+
+        then:
+        balancer.getOutstandingRequests(one) == 0
+        balancer.getOutstandingRequests(two) == 1
+    }
+
+    void "test power of two choices selects the instance with fewer requests in flight"() {
+        given:
+        def balancer = loadBalancer(LoadBalancingStrategy.POWER_OF_TWO_CHOICES, [one, two])
+
+        when:
+        balancer.requestStarted(one)
+
+        then:
+        (1..10).every { select(balancer).URI == two.URI }
+    }
+
+    void "test instances that are down are not selected"() {
+        given:
+        ServiceInstance down = ServiceInstance.builder("test", new URI("http://down")).status(HealthStatus.DOWN).build()
+
+        expect:
+        (1..10).every { select(loadBalancer(strategy, [down, one])).URI == one.URI }
+
+        when:
+        select(loadBalancer(strategy, [down]))
+
+        then:
+        thrown(NoAvailableServiceException)
+
+        where:
+        strategy << LoadBalancingStrategy.values()
+    }
+
+    void "test the client reports requests to a configured strategy"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, ['spec.name': 'RequestTrackingLoadBalancerSpec'])
+        ApplicationContext ctx = ApplicationContext.run([
+                'spec.name': 'RequestTrackingLoadBalancerSpec',
+                'micronaut.http.services.tracked.url': server.URL.toString(),
+                'micronaut.http.services.tracked.load-balancing-strategy': 'least-outstanding-requests'
+        ])
+        TrackedClient client = ctx.getBean(TrackedClient)
+
+        expect:
+        client.index() == 'tracked'
+        client.index() == 'tracked'
+
+        when:
+        def balancer = ctx.getBean(LoadBalancerResolver).resolve('tracked').get()
+
+        then:
+        balancer instanceof ServiceInstanceListRequestTrackingLoadBalancer
+        balancer.strategy == LoadBalancingStrategy.LEAST_OUTSTANDING_REQUESTS
+
+        cleanup:
+        ctx.close()
+        server.close()
+    }
+
+    private static ServiceInstance select(AbstractRequestTrackingLoadBalancer balancer) {
+        Flowable.fromPublisher(balancer.select()).blockingFirst()
+    }
+
+    private static AbstractRequestTrackingLoadBalancer loadBalancer(LoadBalancingStrategy strategy, List<ServiceInstance> instances) {
+        new ServiceInstanceListRequestTrackingLoadBalancer(new StaticServiceInstanceList("test", []) {
+            @Override
+            List<ServiceInstance> getInstances() {
+                instances
+            }
+        }, strategy)
+    }
+
+    @Requires(property = 'spec.name', value = 'RequestTrackingLoadBalancerSpec')
+    @Client(id = 'tracked')
+    static interface TrackedClient {
+        @Get('/tracked')
+        String index()
+    }
+
+    @Requires(property = 'spec.name', value = 'RequestTrackingLoadBalancerSpec')
+    @Controller('/tracked')
+    static class TrackedController {
+        @Get
+        String index() {
+            'tracked'
+        }
+    }
+}
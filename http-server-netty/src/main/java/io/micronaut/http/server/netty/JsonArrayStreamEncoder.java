@@ -0,0 +1,308 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.io.buffer.ByteBuffer;
+import io.micronaut.http.codec.MediaTypeCodec;
+import io.micronaut.jackson.codec.JacksonMediaTypeCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.util.ReferenceCountUtil;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Writes the elements of a publisher as a JSON array. Elements encoded by a {@link JacksonMediaTypeCodec} share a
+ * single {@link JsonGenerator}, and the output of several elements is collected in one buffer that is emitted once
+ * the configured number of elements or bytes has been written.
+ *
+ * <p>The opening bracket is only emitted together with the first element or on completion, so a publisher that
+ * fails before emitting does not produce a partial array.</p>
+ *
+ * @since 2.5.12
+ */
+@SuppressWarnings("ReactiveStreamsSubscriberImplementation")
+@Internal
+final class JsonArrayStreamEncoder implements Subscriber<Object>, Subscription {
+
+    private static final byte OPEN_BRACKET = '[';
+    private static final byte COMMA = ',';
+    private static final byte CLOSE_BRACKET = ']';
+
+    private final Subscriber<? super HttpContent> downstream;
+    private final ByteBufAllocator allocator;
+    private final Function<Object, MediaTypeCodec> codecResolver;
+    private final int flushElements;
+    private final int flushBytes;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<HttpContent> pendingLast = new AtomicReference<>();
+    private final OutputStream output = new OutputStream() {
+        @Override
+        public void write(int b) {
+            buffer().writeByte(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer().writeBytes(b, off, len);
+        }
+    };
+
+    private Subscription upstream;
+    // set once the upstream publisher terminated or failed, so later signals are dropped
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private JsonGenerator generator;
+    private ByteBuf buffer;
+    private boolean empty = true;
+    private int bufferedElements;
+
+    /**
+     * @param downstream    The subscriber receiving the content
+     * @param allocator     The allocator for the buffers
+     * @param codecResolver Resolves the codec for an element
+     * @param flushElements The number of elements written before the buffer is emitted
+     * @param flushBytes    The number of bytes written before the buffer is emitted
+     */
+    JsonArrayStreamEncoder(Subscriber<? super HttpContent> downstream,
+                           ByteBufAllocator allocator,
+                           Function<Object, MediaTypeCodec> codecResolver,
+                           int flushElements,
+                           int flushBytes) {
+        this.downstream = downstream;
+        this.allocator = allocator;
+        this.codecResolver = codecResolver;
+        this.flushElements = Math.max(flushElements, 1);
+        this.flushBytes = Math.max(flushBytes, 1);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        this.upstream = s;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(Object message) {
+        if (done || cancelled) {
+            ReferenceCountUtil.release(message);
+            return;
+        }
+        HttpContent content;
+        try {
+            content = write(message);
+        } catch (Throwable e) {
+            upstream.cancel();
+            onError(e);
+            return;
+        }
+        if (cancelled) {
+            // cancelled while the element was written
+            ReferenceCountUtil.release(content);
+            return;
+        }
+        if (content != null) {
+            requested.decrementAndGet();
+            downstream.onNext(content);
+        } else {
+            // the element was consumed without satisfying the demand of the downstream subscriber
+            upstream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) {
+            return;
+        }
+        done = true;
+        release();
+        if (!cancelled) {
+            downstream.onError(t);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (done || cancelled) {
+            return;
+        }
+        HttpContent last;
+        try {
+            last = finish();
+        } catch (Throwable e) {
+            onError(e);
+            return;
+        }
+        done = true;
+        pendingLast.set(last);
+        if (cancelled) {
+            // cancel may have released the pending buffers before the last content was set
+            release();
+        } else if (requested.get() > 0) {
+            emitLast();
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            upstream.request(n);
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            next = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!requested.compareAndSet(current, next));
+        if (pendingLast.get() != null) {
+            emitLast();
+        } else {
+            upstream.request(n);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        upstream.cancel();
+        release();
+    }
+
+    private void emitLast() {
+        HttpContent last = pendingLast.getAndSet(null);
+        if (last != null) {
+            downstream.onNext(last);
+            downstream.onComplete();
+        }
+    }
+
+    /**
+     * @param message The element
+     * @return The content to emit or null if the buffer is not full
+     * @throws IOException If the element cannot be written
+     */
+    private synchronized HttpContent write(Object message) throws IOException {
+        if (cancelled) {
+            // the buffers were released by cancel
+            ReferenceCountUtil.release(message);
+            return null;
+        }
+        ByteBuf buf = buffer();
+        buf.writeByte(empty ? OPEN_BRACKET : COMMA);
+        empty = false;
+        if (message instanceof ByteBuf) {
+            writeAndRelease((ByteBuf) message);
+        } else if (message instanceof ByteBuffer) {
+            ByteBuffer<?> byteBuffer = (ByteBuffer<?>) message;
+            Object nativeBuffer = byteBuffer.asNativeBuffer();
+            if (nativeBuffer instanceof ByteBuf) {
+                writeAndRelease((ByteBuf) nativeBuffer);
+            } else {
+                buf.writeBytes(byteBuffer.asNioBuffer());
+            }
+        } else if (message instanceof byte[]) {
+            buf.writeBytes((byte[]) message);
+        } else if (message instanceof HttpContent) {
+            writeAndRelease(((HttpContent) message).content());
+        } else {
+            MediaTypeCodec codec = codecResolver.apply(message);
+            if (codec instanceof JacksonMediaTypeCodec) {
+                JsonGenerator generator = generator((JacksonMediaTypeCodec) codec);
+                ((JacksonMediaTypeCodec) codec).encode(message, generator);
+                generator.flush();
+            } else {
+                codec.encode(message, output);
+            }
+        }
+        bufferedElements++;
+        if (bufferedElements >= flushElements || buffer.readableBytes() >= flushBytes) {
+            return take();
+        }
+        return null;
+    }
+
+    /**
+     * @return The remaining content including the closing bracket
+     * @throws IOException If the generator cannot be closed
+     */
+    private synchronized HttpContent finish() throws IOException {
+        if (generator != null) {
+            generator.close();
+            generator = null;
+        }
+        ByteBuf buf = buffer();
+        if (empty) {
+            buf.writeByte(OPEN_BRACKET);
+        }
+        buf.writeByte(CLOSE_BRACKET);
+        return take();
+    }
+
+    private synchronized void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+        HttpContent last = pendingLast.getAndSet(null);
+        if (last != null) {
+            last.release();
+        }
+    }
+
+    private JsonGenerator generator(JacksonMediaTypeCodec codec) throws IOException {
+        if (generator == null) {
+            generator = codec.getObjectMapper().getFactory().createGenerator(output, JsonEncoding.UTF8);
+            // the elements are separated by commas written directly to the buffer
+            generator.setRootValueSeparator(null);
+        }
+        return generator;
+    }
+
+    private ByteBuf buffer() {
+        if (buffer == null) {
+            buffer = allocator.buffer();
+        }
+        return buffer;
+    }
+
+    private void writeAndRelease(ByteBuf content) {
+        try {
+            buffer().writeBytes(content, content.readerIndex(), content.readableBytes());
+        } finally {
+            ReferenceCountUtil.release(content);
+        }
+    }
+
+    private HttpContent take() {
+        HttpContent content = new DefaultHttpContent(buffer);
+        buffer = null;
+        bufferedElements = 0;
+        return content;
+    }
+}
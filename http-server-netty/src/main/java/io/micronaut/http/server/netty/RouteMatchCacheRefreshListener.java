@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.web.router.cache.RouteMatchCache;
+
+import javax.inject.Singleton;
+
+/**
+ * Clears the {@link RouteMatchCache} when the application is refreshed, since refreshed beans may change the
+ * routes that are resolved for a request.
+ *
+ * @since 2.5.12
+ */
+@Singleton
+@Requires(beans = RouteMatchCache.class)
+@Internal
+final class RouteMatchCacheRefreshListener implements ApplicationEventListener<RefreshEvent> {
+
+    private final RouteMatchCache routeMatchCache;
+
+    /**
+     * @param routeMatchCache The route match cache
+     */
+    RouteMatchCacheRefreshListener(RouteMatchCache routeMatchCache) {
+        this.routeMatchCache = routeMatchCache;
+    }
+
+    @Override
+    public void onApplicationEvent(RefreshEvent event) {
+        routeMatchCache.clear();
+    }
+}
@@ -73,7 +73,6 @@ import io.micronaut.http.multipart.StreamingFileUpload;
 import io.micronaut.http.netty.AbstractNettyHttpRequest;
 import io.micronaut.http.netty.NettyHttpResponseBuilder;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
-import io.micronaut.http.netty.stream.JsonSubscriber;
 import io.micronaut.http.netty.stream.StreamedHttpRequest;
 import io.micronaut.http.server.binding.RequestArgumentSatisfier;
 import io.micronaut.http.server.exceptions.ExceptionHandler;
@@ -86,8 +85,10 @@ import io.micronaut.http.server.netty.multipart.NettyPartData;
 import io.micronaut.http.server.netty.multipart.NettyStreamingFileUpload;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler;
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
+import io.micronaut.http.server.netty.types.files.NettyCachedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettyStreamedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettySystemFileCustomizableResponseType;
+import io.micronaut.http.server.netty.types.files.StaticResourceContentCache;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.inject.BeanType;
 import io.micronaut.inject.MethodExecutionHandle;
@@ -96,8 +97,11 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.http.codec.TextPlainCodec;
 import io.micronaut.scheduling.executor.ExecutorSelector;
 import io.micronaut.web.router.*;
+import io.micronaut.web.router.cache.RouteMatchCache;
 import io.micronaut.web.router.exceptions.DuplicateRouteException;
 import io.micronaut.web.router.exceptions.UnsatisfiedRouteException;
+import io.micronaut.web.router.filter.FilteredRouter;
+import io.micronaut.web.router.resource.ResolvedStaticResource;
 import io.micronaut.web.router.resource.StaticResourceResolver;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
@@ -169,6 +173,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private final Supplier<ExecutorService> ioExecutorSupplier;
     private final String serverHeader;
     private final boolean multipartEnabled;
+    private final RouteMatchCache routeMatchCache;
+    private final StaticResourceContentCache staticResourceContentCache;
     private ExecutorService ioExecutor;
 
     /**
@@ -210,6 +216,9 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         this.errorResponseProcessor = errorResponseProcessor;
         Optional<Boolean> multipartEnabled = serverConfiguration.getMultipart().getEnabled();
         this.multipartEnabled = !multipartEnabled.isPresent() || multipartEnabled.get();
+        // filtered routers may select routes based on arbitrary request state, so their results cannot be cached
+        this.routeMatchCache = router instanceof FilteredRouter ? null : beanContext.findBean(RouteMatchCache.class).orElse(null);
+        this.staticResourceContentCache = beanContext.findBean(StaticResourceContentCache.class).orElse(null);
     }
 
     @Override
@@ -482,7 +491,8 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
 
         UriRouteMatch<Object, Object> routeMatch = null;
 
-        List<UriRouteMatch<Object, Object>> uriRoutes = router.findAllClosest(request);
+        List<UriRouteMatch<Object, Object>> uriRoutes = routeMatchCache != null ?
+                routeMatchCache.findAllClosest(router, request) : router.findAllClosest(request);
 
         if (uriRoutes.size() > 1) {
             throw new DuplicateRouteException(requestPath, uriRoutes);
@@ -679,11 +689,18 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     }
 
     private Optional<? extends FileCustomizableResponseType> matchFile(String path) {
-        Optional<URL> optionalUrl = staticResourceResolver.resolve(path);
-
-        if (optionalUrl.isPresent()) {
+        Optional<ResolvedStaticResource> optionalResource = staticResourceResolver.resolveResource(path);
+
+        if (optionalResource.isPresent()) {
+            ResolvedStaticResource resource = optionalResource.get();
+            if (staticResourceContentCache != null && resource.getCache() != null) {
+                Optional<NettyCachedFileCustomizableResponseType> cached = staticResourceContentCache.get(resource);
+                if (cached.isPresent()) {
+                    return cached;
+                }
+            }
             try {
-                URL url = optionalUrl.get();
+                URL url = resource.getUrl();
                 if (url.getProtocol().equals("file")) {
                     File file = Paths.get(url.toURI()).toFile();
                     if (file.exists() && !file.isDirectory() && file.canRead()) {
@@ -1315,45 +1332,55 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                                 boolean isJson = mediaType.getExtension().equals(MediaType.EXTENSION_JSON) && isJsonFormattable(typeArgument);
                                 Publisher<Object> bodyPublisher = applyExecutorToPublisher(Publishers.convertPublisher(body, Publisher.class), executor);
                                 NettyByteBufferFactory byteBufferFactory = new NettyByteBufferFactory(context.alloc());
+                                Function<Object, MediaTypeCodec> codecResolver = element -> mediaTypeCodecRegistry
+                                        .findCodec(mediaType, element.getClass())
+                                        .orElse(new TextPlainCodec(serverConfiguration.getDefaultCharset()));
 
-                                Publisher<HttpContent> httpContentPublisher = Publishers.map(bodyPublisher, new Function<Object, HttpContent>() {
-                                    @Override
-                                    public HttpContent apply(Object message) {
-                                        HttpContent httpContent;
-                                        if (message instanceof ByteBuf) {
-                                            httpContent = new DefaultHttpContent((ByteBuf) message);
-                                        } else if (message instanceof ByteBuffer) {
-                                            ByteBuffer<?> byteBuffer = (ByteBuffer<?>) message;
-                                            Object nativeBuffer = byteBuffer.asNativeBuffer();
-                                            if (nativeBuffer instanceof ByteBuf) {
-                                                httpContent = new DefaultHttpContent((ByteBuf) nativeBuffer);
+                                Publisher<HttpContent> httpContentPublisher;
+                                if (isJson) {
+                                    // if the Publisher is returning JSON then in order for it to be valid JSON for each emitted element
+                                    // we must wrap the JSON in array and delimit the emitted items
+                                    NettyHttpServerConfiguration.JsonStreamSettings jsonStream = serverConfiguration.getJsonStream();
+                                    httpContentPublisher = Flowable.fromPublisher(bodyPublisher)
+                                            .lift((FlowableOperator<HttpContent, Object>) subscriber -> new JsonArrayStreamEncoder(
+                                                    subscriber,
+                                                    context.alloc(),
+                                                    codecResolver,
+                                                    jsonStream.getFlushElements(),
+                                                    jsonStream.getFlushBytes()
+                                            ));
+                                } else {
+                                    httpContentPublisher = Publishers.map(bodyPublisher, new Function<Object, HttpContent>() {
+                                        @Override
+                                        public HttpContent apply(Object message) {
+                                            HttpContent httpContent;
+                                            if (message instanceof ByteBuf) {
+                                                httpContent = new DefaultHttpContent((ByteBuf) message);
+                                            } else if (message instanceof ByteBuffer) {
+                                                ByteBuffer<?> byteBuffer = (ByteBuffer<?>) message;
+                                                Object nativeBuffer = byteBuffer.asNativeBuffer();
+                                                if (nativeBuffer instanceof ByteBuf) {
+                                                    httpContent = new DefaultHttpContent((ByteBuf) nativeBuffer);
+                                                } else {
+                                                    httpContent = new DefaultHttpContent(Unpooled.copiedBuffer(byteBuffer.asNioBuffer()));
+                                                }
+                                            } else if (message instanceof byte[]) {
+                                                httpContent = new DefaultHttpContent(Unpooled.copiedBuffer((byte[]) message));
+                                            } else if (message instanceof HttpContent) {
+                                                httpContent = (HttpContent) message;
                                             } else {
-                                                httpContent = new DefaultHttpContent(Unpooled.copiedBuffer(byteBuffer.asNioBuffer()));
-                                            }
-                                        } else if (message instanceof byte[]) {
-                                            httpContent = new DefaultHttpContent(Unpooled.copiedBuffer((byte[]) message));
-                                        } else if (message instanceof HttpContent) {
-                                            httpContent = (HttpContent) message;
-                                        } else {
 
-                                            MediaTypeCodec codec = mediaTypeCodecRegistry.findCodec(mediaType, message.getClass()).orElse(
-                                                    new TextPlainCodec(serverConfiguration.getDefaultCharset()));
+                                                MediaTypeCodec codec = codecResolver.apply(message);
 
-                                            if (LOG.isTraceEnabled()) {
-                                                LOG.trace("Encoding emitted response object [{}] using codec: {}", message, codec);
+                                                if (LOG.isTraceEnabled()) {
+                                                    LOG.trace("Encoding emitted response object [{}] using codec: {}", message, codec);
+                                                }
+                                                ByteBuffer<ByteBuf> encoded = codec.encode(message, byteBufferFactory);
+                                                httpContent = new DefaultHttpContent(encoded.asNativeBuffer());
                                             }
-                                            ByteBuffer<ByteBuf> encoded = codec.encode(message, byteBufferFactory);
-                                            httpContent = new DefaultHttpContent(encoded.asNativeBuffer());
+                                            return httpContent;
                                         }
-                                        return httpContent;
-                                    }
-                                });
-
-                                if (isJson) {
-                                    // if the Publisher is returning JSON then in order for it to be valid JSON for each emitted element
-                                    // we must wrap the JSON in array and delimit the emitted items
-                                    httpContentPublisher = Flowable.fromPublisher(httpContentPublisher)
-                                            .lift((FlowableOperator<HttpContent, HttpContent>) JsonSubscriber::new);
+                                    });
                                 }
 
                                 httpContentPublisher = Publishers.then(httpContentPublisher, httpContent ->
@@ -18,8 +18,10 @@ package io.micronaut.http.server.netty;
 import io.micronaut.core.annotation.Internal;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
 
 import java.util.List;
 
@@ -47,13 +49,16 @@ public class SmartHttpContentCompressor extends HttpContentCompressor {
     }
 
     /**
-     * Determines if encoding should occur based on the response.
+     * Determines if encoding should occur based on the response. Partial content is never compressed since the
+     * ranges refer to the uncompressed representation, and content that already has a coding is left untouched.
      *
      * @param response The response
      * @return True if the content should not be compressed
      */
     public boolean shouldSkip(HttpResponse response) {
-        return !httpCompressionStrategy.shouldCompress(response);
+        return response.status().code() == HttpResponseStatus.PARTIAL_CONTENT.code() ||
+                response.headers().contains(HttpHeaderNames.CONTENT_ENCODING) ||
+                !httpCompressionStrategy.shouldCompress(response);
     }
 
     @Override
@@ -30,6 +30,7 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 
 import javax.inject.Inject;
+import java.io.File;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
@@ -118,6 +119,8 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
     private String fallbackProtocol = ApplicationProtocolNames.HTTP_1_1;
     private AccessLogger accessLogger;
     private Http2Settings http2Settings = new Http2Settings();
+    private JsonStreamSettings jsonStreamSettings = new JsonStreamSettings();
+    private JsonBodySettings jsonBodySettings = new JsonBodySettings();
 
     /**
      * Default empty constructor.
@@ -179,6 +182,46 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Returns the settings for streamed JSON arrays.
+     * @return The JsonStreamSettings.
+     * @since 2.5.12
+     */
+    public JsonStreamSettings getJsonStream() {
+        return jsonStreamSettings;
+    }
+
+    /**
+     * Sets the settings for streamed JSON arrays.
+     * @param jsonStream The JsonStreamSettings.
+     * @since 2.5.12
+     */
+    public void setJsonStream(JsonStreamSettings jsonStream) {
+        if (jsonStream != null) {
+            this.jsonStreamSettings = jsonStream;
+        }
+    }
+
+    /**
+     * Returns the settings for JSON request bodies.
+     * @return The JsonBodySettings.
+     * @since 2.5.12
+     */
+    public JsonBodySettings getJsonBody() {
+        return jsonBodySettings;
+    }
+
+    /**
+     * Sets the settings for JSON request bodies.
+     * @param jsonBody The JsonBodySettings.
+     * @since 2.5.12
+     */
+    public void setJsonBody(JsonBodySettings jsonBody) {
+        if (jsonBody != null) {
+            this.jsonBodySettings = jsonBody;
+        }
+    }
+
     /**
      * @return The pipeline customizers
      */
@@ -582,6 +625,119 @@ public class NettyHttpServerConfiguration extends HttpServerConfiguration {
         }
     }
 
+    /**
+     * Settings for JSON arrays streamed from a {@link org.reactivestreams.Publisher} returned by a route. The elements
+     * are written into a shared buffer that is sent once enough elements or bytes have been written.
+     *
+     * @since 2.5.12
+     */
+    @ConfigurationProperties("json-stream")
+    public static class JsonStreamSettings {
+
+        /**
+         * The default number of elements written before the buffer is sent.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_FLUSH_ELEMENTS = 1;
+
+        /**
+         * The default number of bytes written before the buffer is sent.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_FLUSH_BYTES = 8192;
+
+        private int flushElements = DEFAULT_FLUSH_ELEMENTS;
+        private int flushBytes = DEFAULT_FLUSH_BYTES;
+
+        /**
+         * @return The number of elements written before the buffer is sent
+         */
+        public int getFlushElements() {
+            return flushElements;
+        }
+
+        /**
+         * Sets the number of elements written before the buffer is sent. Higher values send fewer, larger chunks
+         * but delay the elements of slow publishers. Default value ({@value #DEFAULT_FLUSH_ELEMENTS}).
+         *
+         * @param flushElements The number of elements
+         */
+        public void setFlushElements(int flushElements) {
+            this.flushElements = flushElements;
+        }
+
+        /**
+         * @return The number of bytes written before the buffer is sent
+         */
+        public int getFlushBytes() {
+            return flushBytes;
+        }
+
+        /**
+         * Sets the number of bytes written before the buffer is sent, regardless of the number of elements.
+         * Default value ({@value #DEFAULT_FLUSH_BYTES}).
+         *
+         * @param flushBytes The number of bytes
+         */
+        public void setFlushBytes(@ReadableBytes int flushBytes) {
+            this.flushBytes = flushBytes;
+        }
+    }
+
+    /**
+     * Settings for JSON request bodies that are bound as a whole. Once a body exceeds the spill threshold the
+     * remaining content is written to a temporary file and parsed from a memory mapped region when the request is
+     * complete, instead of being parsed while it is received.
+     *
+     * @since 2.5.12
+     */
+    @ConfigurationProperties("json-body")
+    public static class JsonBodySettings {
+
+        /**
+         * The default spill threshold. A negative value disables spilling.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_SPILL_THRESHOLD = -1;
+
+        private long spillThreshold = DEFAULT_SPILL_THRESHOLD;
+        private File spillLocation;
+
+        /**
+         * @return The number of bytes received before the body is written to a temporary file
+         */
+        public long getSpillThreshold() {
+            return spillThreshold;
+        }
+
+        /**
+         * Sets the number of bytes received before the remainder of the body is written to a temporary file. Bodies
+         * streamed into a {@link org.reactivestreams.Publisher} are never spilled. Default value
+         * ({@value #DEFAULT_SPILL_THRESHOLD}), which disables spilling.
+         *
+         * @param spillThreshold The number of bytes
+         */
+        public void setSpillThreshold(@ReadableBytes long spillThreshold) {
+            this.spillThreshold = spillThreshold;
+        }
+
+        /**
+         * @return The directory of the temporary files or null to use the default temporary directory
+         */
+        public File getSpillLocation() {
+            return spillLocation;
+        }
+
+        /**
+         * Sets the directory of the temporary files. Defaults to the {@code java.io.tmpdir} system property.
+         *
+         * @param spillLocation The directory
+         */
+        public void setSpillLocation(File spillLocation) {
+            this.spillLocation = spillLocation;
+        }
+    }
+
     /**
      * Access logger configuration.
      */
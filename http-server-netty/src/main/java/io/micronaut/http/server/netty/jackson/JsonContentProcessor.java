@@ -27,6 +27,7 @@ import io.micronaut.http.MediaType;
 import io.micronaut.http.server.HttpServerConfiguration;
 import io.micronaut.http.server.netty.AbstractHttpContentProcessor;
 import io.micronaut.http.server.netty.NettyHttpRequest;
+import io.micronaut.http.server.netty.configuration.NettyHttpServerConfiguration;
 import io.micronaut.jackson.parser.JacksonProcessor;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
@@ -34,23 +35,44 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.util.ReferenceCountUtil;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.micronaut.core.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 
 /**
  * This class will handle subscribing to a JSON stream and binding once the events are complete in a non-blocking
  * manner.
  *
+ * <p>If the {@link NettyHttpServerConfiguration.JsonBodySettings#getSpillThreshold() spill threshold} is enabled and
+ * the body is not streamed into a publisher, the content received beyond the threshold is written to a temporary
+ * file and parsed from a memory mapped region once the request is complete.</p>
+ *
  * @author Graeme Rocher
  * @since 1.0
  */
 @Internal
 public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(JsonContentProcessor.class);
+    private static final int SPILL_CHUNK_SIZE = 8192;
+
     private final JsonFactory jsonFactory;
     private final DeserializationConfig deserializationConfig;
+    private final long spillThreshold;
+    private final File spillLocation;
     private JacksonProcessor jacksonProcessor;
+    private boolean spillEnabled;
+    private Path spillFile;
+    private FileChannel spillChannel;
 
     /**
      * @param nettyHttpRequest The Netty Http request
@@ -66,6 +88,14 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
         super(nettyHttpRequest, configuration);
         this.jsonFactory = jsonFactory != null ? jsonFactory : new JsonFactory();
         this.deserializationConfig = deserializationConfig;
+        if (configuration instanceof NettyHttpServerConfiguration) {
+            NettyHttpServerConfiguration.JsonBodySettings jsonBody = ((NettyHttpServerConfiguration) configuration).getJsonBody();
+            this.spillThreshold = jsonBody.getSpillThreshold();
+            this.spillLocation = jsonBody.getSpillLocation();
+        } else {
+            this.spillThreshold = NettyHttpServerConfiguration.JsonBodySettings.DEFAULT_SPILL_THRESHOLD;
+            this.spillLocation = null;
+        }
     }
 
     @Override
@@ -94,6 +124,7 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
             }
         }
 
+        this.spillEnabled = spillThreshold >= 0 && !streamArray && !isJsonStream;
         this.jacksonProcessor = new JacksonProcessor(jsonFactory, streamArray, deserializationConfig);
         this.jacksonProcessor.subscribe(new CompletionAwareSubscriber<JsonNode>() {
 
@@ -148,8 +179,16 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
     protected void onData(ByteBufHolder message) {
         ByteBuf content = message.content();
         try {
-            byte[] bytes = ByteBufUtil.getBytes(content);
-            jacksonProcessor.onNext(bytes);
+            if (spillChannel != null || (spillEnabled && receivedLength.get() > spillThreshold)) {
+                spill(content);
+                // the parser only requests more input for the content it is given
+                parentSubscription.request(1);
+            } else {
+                byte[] bytes = ByteBufUtil.getBytes(content);
+                jacksonProcessor.onNext(bytes);
+            }
+        } catch (IOException e) {
+            onError(e);
         } finally {
             ReferenceCountUtil.release(content);
         }
@@ -157,12 +196,78 @@ public class JsonContentProcessor extends AbstractHttpContentProcessor<JsonNode>
 
     @Override
     protected void doAfterOnError(Throwable throwable) {
-        jacksonProcessor.onError(throwable);
+        try {
+            jacksonProcessor.onError(throwable);
+        } finally {
+            deleteSpillFile();
+        }
     }
 
     @Override
     protected void doOnComplete() {
+        if (spillChannel != null) {
+            try {
+                parseSpillFile();
+            } catch (IOException e) {
+                doOnError(e);
+                return;
+            } finally {
+                deleteSpillFile();
+            }
+        }
         jacksonProcessor.onComplete();
         super.doOnComplete();
     }
+
+    private void spill(ByteBuf content) throws IOException {
+        if (spillChannel == null) {
+            spillFile = spillLocation != null ?
+                    Files.createTempFile(spillLocation.toPath(), "micronaut-json-", ".tmp") :
+                    Files.createTempFile("micronaut-json-", ".tmp");
+            spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("JSON body exceeds {} bytes, writing the remaining content to {}", spillThreshold, spillFile);
+            }
+        }
+        while (content.isReadable()) {
+            content.readBytes(spillChannel, content.readableBytes());
+        }
+    }
+
+    private void parseSpillFile() throws IOException {
+        long size = spillChannel.size();
+        long position = 0;
+        while (position < size) {
+            MappedByteBuffer region = spillChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Integer.MAX_VALUE));
+            position += region.remaining();
+            while (region.hasRemaining()) {
+                // the parser may keep a chunk while it waits for demand, so every chunk gets its own array
+                byte[] chunk = new byte[Math.min(SPILL_CHUNK_SIZE, region.remaining())];
+                region.get(chunk);
+                jacksonProcessor.onNext(chunk);
+            }
+        }
+    }
+
+    private void deleteSpillFile() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+            spillChannel = null;
+        }
+        if (spillFile != null) {
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Could not delete temporary file " + spillFile + ": " + e.getMessage(), e);
+                }
+                spillFile.toFile().deleteOnExit();
+            }
+            spillFile = null;
+        }
+    }
 }
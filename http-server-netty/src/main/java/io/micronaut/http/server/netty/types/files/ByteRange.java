@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A satisfiable byte range of a file as requested by the {@code Range} header.
+ * See <a href="https://tools.ietf.org/html/rfc7233#section-2.1">RFC 7233</a>.
+ *
+ * @since 2.5.12
+ */
+@Internal
+public final class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    /**
+     * @param start The index of the first byte
+     * @param end   The index of the last byte, inclusive
+     */
+    ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return The index of the first byte
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * @return The index of the last byte, inclusive
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return The number of bytes in the range
+     */
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @param length The length of the complete file
+     * @return The value of the {@code Content-Range} header for this range
+     */
+    public String toContentRange(long length) {
+        return "bytes " + start + '-' + end + '/' + length;
+    }
+
+    @Override
+    public String toString() {
+        return start + "-" + end;
+    }
+
+    /**
+     * Parses the value of a {@code Range} header. Overlapping and adjacent ranges are coalesced.
+     *
+     * @param header    The header value
+     * @param length    The length of the file
+     * @param maxRanges The maximum number of ranges that will be served
+     * @return The satisfiable ranges ordered by position, an empty list if none of the ranges can be satisfied or
+     * {@code null} if the header is invalid or requests too many ranges and should be ignored
+     */
+    @Nullable
+    public static List<ByteRange> parse(String header, long length, int maxRanges) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return null;
+        }
+        List<ByteRange> ranges = new ArrayList<>(1);
+        boolean present = false;
+        for (String spec : header.substring(BYTES_UNIT.length()).split(",")) {
+            spec = spec.trim();
+            if (spec.isEmpty()) {
+                continue;
+            }
+            present = true;
+            int dash = spec.indexOf('-');
+            if (dash == -1) {
+                return null;
+            }
+            try {
+                if (dash == 0) {
+                    long suffix = parseDigits(spec.substring(1));
+                    if (suffix > 0 && length > 0) {
+                        ranges.add(new ByteRange(Math.max(0, length - suffix), length - 1));
+                    }
+                } else {
+                    long first = parseDigits(spec.substring(0, dash));
+                    String lastSpec = spec.substring(dash + 1);
+                    long last = lastSpec.isEmpty() ? Long.MAX_VALUE : parseDigits(lastSpec);
+                    if (last < first) {
+                        return null;
+                    }
+                    if (first < length) {
+                        ranges.add(new ByteRange(first, Math.min(last, length - 1)));
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (!present) {
+            return null;
+        }
+        if (ranges.size() > 1) {
+            ranges = coalesce(ranges);
+        }
+        if (ranges.size() > maxRanges) {
+            return null;
+        }
+        return Collections.unmodifiableList(ranges);
+    }
+
+    private static long parseDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                throw new NumberFormatException(value);
+            }
+        }
+        return Long.parseLong(value);
+    }
+
+    private static List<ByteRange> coalesce(List<ByteRange> ranges) {
+        ranges.sort(Comparator.comparingLong(ByteRange::getStart));
+        List<ByteRange> coalesced = new ArrayList<>(ranges.size());
+        ByteRange current = ranges.get(0);
+        for (int i = 1; i < ranges.size(); i++) {
+            ByteRange next = ranges.get(i);
+            if (next.start <= current.end + 1) {
+                current = new ByteRange(current.start, Math.max(current.end, next.end));
+            } else {
+                coalesced.add(current);
+                current = next;
+            }
+        }
+        coalesced.add(current);
+        return coalesced;
+    }
+}
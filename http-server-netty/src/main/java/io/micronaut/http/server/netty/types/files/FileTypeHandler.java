@@ -17,8 +17,10 @@ package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MutableHttpHeaders;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.netty.NettyMutableHttpResponse;
@@ -36,6 +38,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Responsible for writing files out to the response in Netty.
@@ -50,6 +53,7 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
     // sorted array of entity headers
     // https://tools.ietf.org/html/rfc2616#section-7.1
     private static final String[] ENTITY_HEADERS = new String[] {HttpHeaders.ALLOW, HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_LOCATION, HttpHeaders.CONTENT_MD5, HttpHeaders.CONTENT_RANGE, HttpHeaders.CONTENT_TYPE, HttpHeaders.EXPIRES, HttpHeaders.LAST_MODIFIED};
+    private static final String BYTES = "bytes";
     private static final Class<?>[] SUPPORTED_TYPES = new Class[]{File.class, StreamedFile.class, NettyFileCustomizableResponseType.class, SystemFile.class};
     private final FileTypeHandlerConfiguration configuration;
 
@@ -79,7 +83,25 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         long lastModified = type.getLastModified();
 
         // Cache Validation
-        ZonedDateTime ifModifiedSince = request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE);
+        String ifNoneMatch = null;
+        if (type instanceof NettyCachedFileCustomizableResponseType) {
+            NettyCachedFileCustomizableResponseType cached = (NettyCachedFileCustomizableResponseType) type;
+            // each content coding has its own entity tag
+            String etag = cached.getEtag(cached.selectContentCoding(request, response));
+            ifNoneMatch = request.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && matchesEtag(ifNoneMatch, etag)) {
+                if (cached.hasVariants()) {
+                    response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                response.header(HttpHeaders.ETAG, etag);
+                FullHttpResponse nettyResponse = notModified(response);
+                context.writeAndFlush(nettyResponse);
+                return;
+            }
+        }
+
+        // If-Modified-Since is ignored when If-None-Match is present
+        ZonedDateTime ifModifiedSince = ifNoneMatch == null ? request.getHeaders().getDate(HttpHeaders.IF_MODIFIED_SINCE) : null;
         if (ifModifiedSince != null) {
 
             // Only compare up to the second because the datetime format we send to the client
@@ -96,6 +118,52 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         if (!response.getHeaders().contains(HttpHeaders.CONTENT_TYPE)) {
             response.header(HttpHeaders.CONTENT_TYPE, type.getMediaType().toString());
         }
+
+        boolean rangeEtag = false;
+        if (type instanceof NettyCachedFileCustomizableResponseType) {
+            NettyCachedFileCustomizableResponseType cached = (NettyCachedFileCustomizableResponseType) type;
+            File file = cached.getFile();
+            if (file != null) {
+                if (request.getHeaders().contains(HttpHeaders.RANGE)) {
+                    // ranges are served from the file rather than the cached content, so If-Range can only match the
+                    // entity tag of the uncompressed content while the file is unchanged
+                    if (!response.getHeaders().contains(HttpHeaders.ETAG) && !cached.hasChanged()) {
+                        response.header(HttpHeaders.ETAG, cached.getEtag());
+                        rangeEtag = true;
+                    }
+                    type = new NettySystemFileCustomizableResponseType(file);
+                    lastModified = type.getLastModified();
+                } else if (!response.getHeaders().contains(HttpHeaders.ACCEPT_RANGES)) {
+                    response.header(HttpHeaders.ACCEPT_RANGES, BYTES);
+                }
+            }
+        }
+
+        if (type instanceof NettySystemFileCustomizableResponseType) {
+            NettySystemFileCustomizableResponseType systemFile = (NettySystemFileCustomizableResponseType) type;
+            if (!response.getHeaders().contains(HttpHeaders.ACCEPT_RANGES)) {
+                response.header(HttpHeaders.ACCEPT_RANGES, BYTES);
+            }
+            List<ByteRange> ranges = resolveRanges(request, response, systemFile.getLength(), lastModified);
+            if (ranges == null && rangeEtag) {
+                // the complete file may be compressed on the way out, so it cannot carry the tag of the uncompressed content
+                response.getHeaders().remove(HttpHeaders.ETAG);
+            }
+            if (ranges != null) {
+                if (ranges.isEmpty()) {
+                    systemFile.close();
+                    FullHttpResponse nettyResponse = rangeNotSatisfiable(response, systemFile.getLength());
+                    context.writeAndFlush(nettyResponse);
+                } else {
+                    setDateAndCacheHeaders(response, lastModified);
+                    systemFile.process(response);
+                    systemFile.writeRanges(request, response, context, ranges);
+                    context.read();
+                }
+                return;
+            }
+        }
+
         setDateAndCacheHeaders(response, lastModified);
 
         type.process(response);
@@ -147,6 +215,60 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         headers.date(now);
     }
 
+    /**
+     * Resolves the ranges requested by the {@code Range} header, honouring {@code If-Range}.
+     *
+     * @param request      The Http request
+     * @param response     The Http response
+     * @param length       The length of the file
+     * @param lastModified The last modified
+     * @return The ranges, an empty list if they cannot be satisfied or null if the complete file should be sent
+     */
+    private List<ByteRange> resolveRanges(HttpRequest<?> request, MutableHttpResponse<?> response, long length, long lastModified) {
+        HttpHeaders requestHeaders = request.getHeaders();
+        String range = requestHeaders.get(HttpHeaders.RANGE);
+        if (range == null || request.getMethod() != HttpMethod.GET || response.getStatus() != HttpStatus.OK) {
+            return null;
+        }
+        String ifRange = requestHeaders.get(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                // strong comparison, weak entity tags never match
+                String etag = response.getHeaders().get(HttpHeaders.ETAG);
+                if (etag == null || ifRange.startsWith("W/") || !ifRange.equals(etag)) {
+                    return null;
+                }
+            } else {
+                ZonedDateTime ifRangeDate = requestHeaders.getDate(HttpHeaders.IF_RANGE);
+                if (ifRangeDate == null || ifRangeDate.toEpochSecond() != lastModified / 1000) {
+                    return null;
+                }
+            }
+        }
+        return ByteRange.parse(range, length, configuration.getMaxRanges());
+    }
+
+    /**
+     * Compares the entity tags of an {@code If-None-Match} header with the tag of the content using the weak
+     * comparison.
+     *
+     * @param ifNoneMatch The value of the {@code If-None-Match} header
+     * @param etag        The entity tag of the content
+     * @return Whether the content matches
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static void copyNonEntityHeaders(MutableHttpResponse<?> from, MutableHttpResponse to) {
         from.getHeaders().forEachValue((header, value) -> {
             if (Arrays.binarySearch(ENTITY_HEADERS, header) < 0) {
@@ -162,4 +284,13 @@ public class FileTypeHandler implements NettyCustomizableResponseTypeHandler<Obj
         return ((NettyMutableHttpResponse) response).toFullHttpResponse();
     }
 
+    private FullHttpResponse rangeNotSatisfiable(MutableHttpResponse<?> originalResponse, long length) {
+        MutableHttpResponse response = HttpResponse.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        copyNonEntityHeaders(originalResponse, response);
+        response.header(HttpHeaders.CONTENT_RANGE, BYTES + " */" + length);
+        response.header(HttpHeaders.CONTENT_LENGTH, "0");
+        setDateHeader(response);
+        return ((NettyMutableHttpResponse) response).toFullHttpResponse();
+    }
+
 }
@@ -34,7 +34,14 @@ public class FileTypeHandlerConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final int DEFAULT_CACHESECONDS = 60;
 
+    /**
+     * The default maximum number of ranges served for a single request.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAX_RANGES = 16;
+
     private int cacheSeconds = DEFAULT_CACHESECONDS;
+    private int maxRanges = DEFAULT_MAX_RANGES;
     private CacheControlConfiguration cacheControl = new CacheControlConfiguration();
 
     /**
@@ -52,6 +59,23 @@ public class FileTypeHandlerConfiguration {
         this.cacheSeconds = cacheSeconds;
     }
 
+    /**
+     * @return The maximum number of ranges served for a single request
+     */
+    public int getMaxRanges() {
+        return maxRanges;
+    }
+
+    /**
+     * Sets the maximum number of ranges served for a single request. Requests for more ranges (after coalescing
+     * overlapping ranges) receive the complete file. Default value ({@value #DEFAULT_MAX_RANGES}).
+     *
+     * @param maxRanges The maximum number of ranges
+     */
+    public void setMaxRanges(int maxRanges) {
+        this.maxRanges = maxRanges;
+    }
+
     /**
      * @return The cache control configuration
      */
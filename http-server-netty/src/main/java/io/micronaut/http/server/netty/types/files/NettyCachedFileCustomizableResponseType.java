@@ -0,0 +1,280 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.netty.NettyMutableHttpResponse;
+import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ReferenceCounted;
+
+import java.io.File;
+import java.net.URL;
+
+/**
+ * A static resource whose content is held in memory, optionally together with precompressed variants. Each variant
+ * has its own strong entity tag, as required for different content codings by RFC 7232. Instances are shared between
+ * requests and released once evicted from the {@link StaticResourceContentCache}.
+ *
+ * @since 2.5.12
+ */
+@Internal
+public final class NettyCachedFileCustomizableResponseType extends AbstractReferenceCounted implements NettyFileCustomizableResponseType {
+
+    private final URL url;
+    private final File file;
+    private final MediaType mediaType;
+    private final long lastModified;
+    private final String etag;
+    private final ByteBuf identity;
+    private final ByteBuf gzip;
+    private final ByteBuf deflate;
+    private final long checkIntervalNanos;
+    private volatile long nextCheckNanos;
+
+    /**
+     * @param url          The URL of the resource
+     * @param file         The file of the resource or null if the resource is not on the file system
+     * @param mediaType    The media type
+     * @param lastModified The last modified time
+     * @param etag         The strong entity tag of the content
+     * @param identity     The content
+     * @param gzip         The gzip compressed content
+     * @param deflate      The deflate compressed content
+     * @param checkIntervalNanos The interval between two checks for modifications of the file, negative to never check
+     */
+    NettyCachedFileCustomizableResponseType(URL url,
+                                            @Nullable File file,
+                                            MediaType mediaType,
+                                            long lastModified,
+                                            String etag,
+                                            ByteBuf identity,
+                                            @Nullable ByteBuf gzip,
+                                            @Nullable ByteBuf deflate,
+                                            long checkIntervalNanos) {
+        this.url = url;
+        this.file = file;
+        this.mediaType = mediaType;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.identity = identity;
+        this.gzip = gzip;
+        this.deflate = deflate;
+        this.checkIntervalNanos = checkIntervalNanos;
+        this.nextCheckNanos = System.nanoTime() + Math.max(checkIntervalNanos, 0);
+    }
+
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public long getLength() {
+        return identity.readableBytes();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return The strong entity tag of the uncompressed content
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @param contentCoding The content coding of the variant or null for the uncompressed content
+     * @return The strong entity tag of the variant
+     */
+    public String getEtag(@Nullable String contentCoding) {
+        if (contentCoding == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + '-' + contentCoding + '"';
+    }
+
+    /**
+     * @return Whether there are compressed variants of the content
+     */
+    public boolean hasVariants() {
+        return gzip != null || deflate != null;
+    }
+
+    /**
+     * Selects the variant of the content to send for a request.
+     *
+     * @param request  The request
+     * @param response The response
+     * @return The content coding of the variant or null for the uncompressed content
+     */
+    @Nullable
+    public String selectContentCoding(HttpRequest<?> request, MutableHttpResponse<?> response) {
+        if (!hasVariants() || response.getHeaders().contains(HttpHeaders.CONTENT_ENCODING)) {
+            return null;
+        }
+        String acceptEncoding = request.getHeaders().get(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        if (gzip != null && accepts(acceptEncoding, HttpHeaderValues.GZIP.toString())) {
+            return HttpHeaderValues.GZIP.toString();
+        }
+        if (deflate != null && accepts(acceptEncoding, HttpHeaderValues.DEFLATE.toString())) {
+            return HttpHeaderValues.DEFLATE.toString();
+        }
+        return null;
+    }
+
+    /**
+     * @return The file of the resource or null if the resource is not on the file system
+     */
+    @Nullable
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Checks whether the file of the resource was modified, at most once per check interval, so that requests
+     * within the interval do not touch the file system.
+     *
+     * @return Whether the file was modified or deleted since its content was loaded
+     */
+    boolean isModified() {
+        if (file == null || checkIntervalNanos < 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - nextCheckNanos < 0) {
+            return false;
+        }
+        nextCheckNanos = now + checkIntervalNanos;
+        return hasChanged();
+    }
+
+    /**
+     * @return Whether the file of the resource differs from the cached content now
+     */
+    boolean hasChanged() {
+        return file != null && (file.lastModified() != lastModified || file.length() != getLength());
+    }
+
+    /**
+     * @return The number of bytes held in memory
+     */
+    int getSize() {
+        return identity.capacity() +
+                (gzip != null ? gzip.capacity() : 0) +
+                (deflate != null ? deflate.capacity() : 0);
+    }
+
+    @Override
+    public void process(MutableHttpResponse<?> response) {
+        response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(getLength()));
+    }
+
+    @Override
+    public void write(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context) {
+        if (!(response instanceof NettyMutableHttpResponse)) {
+            throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+        }
+        try {
+            retain();
+        } catch (IllegalReferenceCountException e) {
+            // evicted since the resource was resolved
+            new NettyStreamedFileCustomizableResponseType(url).write(request, response, context);
+            return;
+        }
+
+        String contentCoding = selectContentCoding(request, response);
+        ByteBuf content = identity;
+        if (hasVariants()) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (contentCoding != null) {
+            content = HttpHeaderValues.GZIP.contentEquals(contentCoding) ? gzip : deflate;
+            response.header(HttpHeaders.CONTENT_ENCODING, contentCoding);
+            response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.readableBytes()));
+        }
+        if (!response.getHeaders().contains(HttpHeaders.ETAG)) {
+            response.header(HttpHeaders.ETAG, getEtag(contentCoding));
+        }
+
+        final DefaultHttpResponse finalResponse = NettySystemFileCustomizableResponseType.toNettyResponse(request, (NettyMutableHttpResponse<?>) response);
+        context.write(finalResponse, context.voidPromise());
+        context.writeAndFlush(new DefaultLastHttpContent(content.retainedDuplicate()))
+                .addListener((ChannelFutureListener) future -> release());
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        identity.touch(hint);
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        identity.release();
+        if (gzip != null) {
+            gzip.release();
+        }
+        if (deflate != null) {
+            deflate.release();
+        }
+    }
+
+    /**
+     * @param acceptEncoding The value of the {@code Accept-Encoding} header
+     * @param coding         The content coding
+     * @return Whether the coding is acceptable
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        for (String token : acceptEncoding.split(",")) {
+            int paramsStart = token.indexOf(';');
+            String name = (paramsStart == -1 ? token : token.substring(0, paramsStart)).trim();
+            if (name.equalsIgnoreCase(coding) || name.equals("*")) {
+                if (paramsStart == -1) {
+                    return true;
+                }
+                String params = token.substring(paramsStart + 1).trim();
+                if (!params.startsWith("q=")) {
+                    return true;
+                }
+                try {
+                    return Double.parseDouble(params.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -16,7 +16,9 @@
 package io.micronaut.http.server.netty.types.files;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.netty.AbstractNettyHttpRequest;
@@ -27,12 +29,19 @@ import io.micronaut.http.server.netty.types.NettyFileCustomizableResponseType;
 import io.micronaut.http.server.types.CustomizableResponseTypeException;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.http.server.types.files.SystemFile;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.handler.stream.ChunkedInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +49,11 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes a {@link File} to the Netty context.
@@ -53,6 +66,8 @@ import java.util.Optional;
 public class NettySystemFileCustomizableResponseType extends SystemFile implements NettyFileCustomizableResponseType {
 
     private static final int LENGTH_8K = 8192;
+    private static final String CRLF = "\r\n";
+    private static final String MULTIPART_BYTERANGES = "multipart/byteranges";
     private static final Logger LOG = LoggerFactory.getLogger(NettySystemFileCustomizableResponseType.class);
 
     protected final RandomAccessFile raf;
@@ -104,7 +119,7 @@ public class NettySystemFileCustomizableResponseType extends SystemFile implemen
      */
     @Override
     public void process(MutableHttpResponse response) {
-        response.header(io.micronaut.http.HttpHeaders.CONTENT_LENGTH, String.valueOf(getLength()));
+        response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(getLength()));
         delegate.ifPresent(type -> type.process(response));
     }
 
@@ -113,31 +128,14 @@ public class NettySystemFileCustomizableResponseType extends SystemFile implemen
 
         if (response instanceof NettyMutableHttpResponse) {
 
-            NettyMutableHttpResponse nettyResponse = ((NettyMutableHttpResponse) response);
-
             // Write the request data
-            final DefaultHttpResponse finalResponse = new DefaultHttpResponse(nettyResponse.getNettyHttpVersion(), nettyResponse.getNettyHttpStatus(), nettyResponse.getNettyHeaders());
-            final io.micronaut.http.HttpVersion httpVersion = request.getHttpVersion();
-            final boolean isHttp2 = httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0;
-            if (isHttp2 && request instanceof NettyHttpRequest) {
-                final io.netty.handler.codec.http.HttpHeaders nativeHeaders = ((NettyHttpRequest<?>) request).getNativeRequest().headers();
-                final String streamId = nativeHeaders.get(AbstractNettyHttpRequest.STREAM_ID);
-                if (streamId != null) {
-                    finalResponse.headers().set(AbstractNettyHttpRequest.STREAM_ID, streamId);
-                }
-            }
+            final DefaultHttpResponse finalResponse = toNettyResponse(request, (NettyMutableHttpResponse<?>) response);
             context.write(finalResponse, context.voidPromise());
 
-            ChannelFutureListener closeListener = (future) -> {
-                try {
-                    raf.close();
-                } catch (IOException e) {
-                    LOG.warn("An error occurred closing the file reference: " + getFile().getAbsolutePath(), e);
-                }
-            };
+            ChannelFutureListener closeListener = (future) -> close();
 
             // Write the content.
-            if (context.pipeline().get(SslHandler.class) == null && context.pipeline().get(SmartHttpContentCompressor.class).shouldSkip(finalResponse)) {
+            if (canUseZeroCopy(context, finalResponse)) {
                 // SSL not enabled - can use zero-copy file transfer.
                 context.write(new DefaultFileRegion(raf.getChannel(), 0, getLength()), context.newProgressivePromise())
                         .addListener(closeListener);
@@ -157,4 +155,180 @@ public class NettySystemFileCustomizableResponseType extends SystemFile implemen
             throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
         }
     }
+
+    /**
+     * Writes the given ranges of the file as a {@code 206 Partial Content} response. A single range is written as
+     * the body of the response, multiple ranges are written as a {@code multipart/byteranges} body.
+     *
+     * @param request  The request
+     * @param response The response
+     * @param context  The channel context
+     * @param ranges   The satisfiable, ordered and non-overlapping ranges to write
+     * @since 2.5.12
+     */
+    public void writeRanges(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context, List<ByteRange> ranges) {
+        if (!(response instanceof NettyMutableHttpResponse)) {
+            throw new IllegalArgumentException("Unsupported response type. Not a Netty response: " + response);
+        }
+        response.status(HttpStatus.PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            writeSingleRange(request, response, context, ranges.get(0));
+        } else {
+            writeMultipleRanges(request, response, context, ranges);
+        }
+    }
+
+    /**
+     * Closes the underlying file.
+     */
+    void close() {
+        try {
+            raf.close();
+        } catch (IOException e) {
+            LOG.warn("An error occurred closing the file reference: " + getFile().getAbsolutePath(), e);
+        }
+    }
+
+    private void writeSingleRange(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context, ByteRange range) {
+        response.header(HttpHeaders.CONTENT_RANGE, range.toContentRange(getLength()));
+        response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(range.getLength()));
+
+        final DefaultHttpResponse finalResponse = toNettyResponse(request, (NettyMutableHttpResponse<?>) response);
+        context.write(finalResponse, context.voidPromise());
+
+        ChannelFutureListener closeListener = (future) -> close();
+        if (canUseZeroCopy(context, finalResponse)) {
+            context.write(new DefaultFileRegion(raf.getChannel(), range.getStart(), range.getLength()), context.newProgressivePromise())
+                    .addListener(closeListener);
+            context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        } else {
+            try {
+                final HttpChunkedInput chunkedInput = new HttpChunkedInput(new ChunkedFile(raf, range.getStart(), range.getLength(), LENGTH_8K));
+                context.writeAndFlush(chunkedInput, context.newProgressivePromise())
+                        .addListener(closeListener);
+            } catch (IOException e) {
+                throw new CustomizableResponseTypeException("Could not read file", e);
+            }
+        }
+    }
+
+    private void writeMultipleRanges(HttpRequest<?> request, MutableHttpResponse<?> response, ChannelHandlerContext context, List<ByteRange> ranges) {
+        String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+        String contentType = response.getHeaders().get(HttpHeaders.CONTENT_TYPE);
+        long length = getLength();
+
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            ByteRange range = ranges.get(i);
+            StringBuilder partHeader = new StringBuilder();
+            if (i > 0) {
+                partHeader.append(CRLF);
+            }
+            partHeader.append("--").append(boundary).append(CRLF);
+            if (contentType != null) {
+                partHeader.append(HttpHeaders.CONTENT_TYPE).append(": ").append(contentType).append(CRLF);
+            }
+            partHeader.append(HttpHeaders.CONTENT_RANGE).append(": ").append(range.toContentRange(length)).append(CRLF).append(CRLF);
+            byte[] bytes = partHeader.toString().getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(bytes);
+            contentLength += bytes.length + range.getLength();
+        }
+        byte[] trailer = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += trailer.length;
+
+        response.header(HttpHeaders.CONTENT_TYPE, MULTIPART_BYTERANGES + "; boundary=" + boundary);
+        response.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+
+        final DefaultHttpResponse finalResponse = toNettyResponse(request, (NettyMutableHttpResponse<?>) response);
+        context.write(finalResponse, context.voidPromise());
+
+        boolean zeroCopy = canUseZeroCopy(context, finalResponse);
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                context.write(new DefaultHttpContent(Unpooled.wrappedBuffer(partHeaders.get(i))), context.voidPromise());
+                // every part opens its own file handle since regions and chunked files close it once written
+                if (zeroCopy) {
+                    context.write(new DefaultFileRegion(getFile(), range.getStart(), range.getLength()), context.voidPromise());
+                } else {
+                    ChunkedFile chunkedFile = new ChunkedFile(new RandomAccessFile(getFile(), "r"), range.getStart(), range.getLength(), LENGTH_8K);
+                    context.write(new HttpContentChunkedInput(chunkedFile), context.voidPromise());
+                }
+            }
+        } catch (IOException e) {
+            close();
+            throw new CustomizableResponseTypeException("Could not read file", e);
+        }
+        context.writeAndFlush(new DefaultLastHttpContent(Unpooled.wrappedBuffer(trailer)))
+                .addListener((ChannelFutureListener) future -> close());
+    }
+
+    /**
+     * @param request       The request
+     * @param nettyResponse The response
+     * @return The Netty response carrying the status and headers
+     */
+    static DefaultHttpResponse toNettyResponse(HttpRequest<?> request, NettyMutableHttpResponse<?> nettyResponse) {
+        final DefaultHttpResponse finalResponse = new DefaultHttpResponse(nettyResponse.getNettyHttpVersion(), nettyResponse.getNettyHttpStatus(), nettyResponse.getNettyHeaders());
+        final io.micronaut.http.HttpVersion httpVersion = request.getHttpVersion();
+        final boolean isHttp2 = httpVersion == io.micronaut.http.HttpVersion.HTTP_2_0;
+        if (isHttp2 && request instanceof NettyHttpRequest) {
+            final io.netty.handler.codec.http.HttpHeaders nativeHeaders = ((NettyHttpRequest<?>) request).getNativeRequest().headers();
+            final String streamId = nativeHeaders.get(AbstractNettyHttpRequest.STREAM_ID);
+            if (streamId != null) {
+                finalResponse.headers().set(AbstractNettyHttpRequest.STREAM_ID, streamId);
+            }
+        }
+        return finalResponse;
+    }
+
+    private static boolean canUseZeroCopy(ChannelHandlerContext context, DefaultHttpResponse response) {
+        return context.pipeline().get(SslHandler.class) == null && context.pipeline().get(SmartHttpContentCompressor.class).shouldSkip(response);
+    }
+
+    /**
+     * Adapts a {@link ChunkedFile} to produce {@link HttpContent} without a trailing {@link LastHttpContent}, so
+     * several files can be written as part of the same message.
+     */
+    private static final class HttpContentChunkedInput implements ChunkedInput<HttpContent> {
+
+        private final ChunkedFile input;
+
+        HttpContentChunkedInput(ChunkedFile input) {
+            this.input = input;
+        }
+
+        @Override
+        public boolean isEndOfInput() throws Exception {
+            return input.isEndOfInput();
+        }
+
+        @Override
+        public void close() throws Exception {
+            input.close();
+        }
+
+        @Deprecated
+        @Override
+        public HttpContent readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public HttpContent readChunk(ByteBufAllocator allocator) throws Exception {
+            ByteBuf buf = input.readChunk(allocator);
+            return buf == null ? null : new DefaultHttpContent(buf);
+        }
+
+        @Override
+        public long length() {
+            return input.length();
+        }
+
+        @Override
+        public long progress() {
+            return input.progress();
+        }
+    }
 }
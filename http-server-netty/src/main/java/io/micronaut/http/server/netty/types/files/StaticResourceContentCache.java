@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.types.files;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.server.netty.HttpCompressionStrategy;
+import io.micronaut.web.router.resource.ResolvedStaticResource;
+import io.micronaut.web.router.resource.StaticResourceConfiguration;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the content of small static resources in pooled direct buffers, together with gzip and deflate compressed
+ * variants and a strong entity tag, for the mappings with an enabled
+ * {@link StaticResourceConfiguration#getCache() cache}. Each mapping has its own memory bound and evicts the least
+ * recently used resources first. Resources from the file system are checked for modifications at most once per
+ * {@link StaticResourceConfiguration.CacheConfiguration#getModificationCheckInterval() check interval}, so other
+ * requests are answered without touching the file system. Resources that do not fit the bounds of their mapping are
+ * remembered, so they are not loaded again on every request.
+ *
+ * @since 2.5.12
+ */
+@Singleton
+@Internal
+public class StaticResourceContentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticResourceContentCache.class);
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_OVERSIZED_RESOURCES = 1000;
+
+    private final HttpCompressionStrategy compressionStrategy;
+    private final Map<StaticResourceConfiguration.CacheConfiguration, ContentCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param compressionStrategy The compression strategy used to decide which resources are precompressed
+     */
+    public StaticResourceContentCache(HttpCompressionStrategy compressionStrategy) {
+        this.compressionStrategy = compressionStrategy;
+    }
+
+    /**
+     * Returns the cached content of a resource, loading it if the resource is small enough to be held in memory.
+     *
+     * @param resource The resolved resource
+     * @return The cached content or empty if the resource is not cached
+     */
+    public Optional<NettyCachedFileCustomizableResponseType> get(ResolvedStaticResource resource) {
+        StaticResourceConfiguration.CacheConfiguration configuration = resource.getCache();
+        if (configuration == null) {
+            return Optional.empty();
+        }
+        URL url = resource.getUrl();
+        String key = url.toExternalForm();
+        ContentCache cache = caches.computeIfAbsent(configuration, ContentCache::new);
+        Map<String, NettyCachedFileCustomizableResponseType> contents = cache.contents;
+        NettyCachedFileCustomizableResponseType cached = contents.get(key);
+        if (cached != null && cached.isModified()) {
+            if (contents.remove(key, cached)) {
+                cached.release();
+            }
+            cached = null;
+        }
+        if (cached == null) {
+            Long oversizedUntil = cache.oversized.get(key);
+            if (oversizedUntil != null) {
+                if (System.nanoTime() - oversizedUntil < 0) {
+                    return Optional.empty();
+                }
+                cache.oversized.remove(key);
+            }
+            cached = load(url, toFile(url), cache);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            NettyCachedFileCustomizableResponseType existing = contents.putIfAbsent(key, cached);
+            if (existing != null) {
+                cached.release();
+                cached = existing;
+            }
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * Removes all cached content and releases its buffers.
+     */
+    @PreDestroy
+    public void clear() {
+        for (ContentCache cache : caches.values()) {
+            cache.oversized.clear();
+            Iterator<NettyCachedFileCustomizableResponseType> i = cache.contents.values().iterator();
+            while (i.hasNext()) {
+                NettyCachedFileCustomizableResponseType cached = i.next();
+                i.remove();
+                cached.release();
+            }
+        }
+    }
+
+    /**
+     * @param url The URL of a resource
+     * @return The file of the resource or null if the resource is not on the file system
+     */
+    @Nullable
+    private static File toFile(URL url) {
+        if (!url.getProtocol().equals("file")) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI()).toFile();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remembers a resource that does not fit the cache, until the next check for modifications of its file.
+     *
+     * @param cache The cache of the mapping
+     * @param url   The URL of the resource
+     * @param file  The file of the resource or null if the resource is not on the file system
+     */
+    private static void rememberOversized(ContentCache cache, URL url, @Nullable File file) {
+        long checkIntervalNanos = cache.configuration.getModificationCheckInterval().toNanos();
+        // resources that are not files do not change while the application is running
+        long delay = file != null && checkIntervalNanos >= 0 ? checkIntervalNanos : Long.MAX_VALUE / 2;
+        cache.oversized.put(url.toExternalForm(), System.nanoTime() + delay);
+    }
+
+    /**
+     * @param url   The URL of the resource
+     * @param file  The file of the resource or null if the resource is not on the file system
+     * @param cache The cache of the mapping
+     * @return The loaded content or null if it cannot be cached
+     */
+    @Nullable
+    private NettyCachedFileCustomizableResponseType load(URL url, @Nullable File file, ContentCache cache) {
+        StaticResourceConfiguration.CacheConfiguration configuration = cache.configuration;
+        long maximumFileSize = Math.min(configuration.getMaximumFileSize(), Integer.MAX_VALUE - 1);
+        byte[] content;
+        long lastModified;
+        try {
+            if (file != null && !file.isFile()) {
+                return null;
+            }
+            URLConnection connection = url.openConnection();
+            long length = connection.getContentLengthLong();
+            lastModified = connection.getLastModified();
+            if (length > maximumFileSize) {
+                connection.getInputStream().close();
+                rememberOversized(cache, url, file);
+                return null;
+            }
+            try (InputStream in = connection.getInputStream()) {
+                content = readAtMost(in, (int) maximumFileSize);
+            }
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Could not cache static resource " + url + ": " + e.getMessage(), e);
+            }
+            return null;
+        }
+        if (content == null || content.length > configuration.getMaximumMemorySize()) {
+            rememberOversized(cache, url, file);
+            return null;
+        }
+
+        String path = url.getPath();
+        MediaType mediaType = MediaType.forFilename(path.substring(path.lastIndexOf('/') + 1));
+        ByteBuf identity = PooledByteBufAllocator.DEFAULT.directBuffer(content.length, content.length).writeBytes(content);
+        ByteBuf gzip = null;
+        ByteBuf deflate = null;
+        if (shouldCompress(mediaType, content.length)) {
+            int level = compressionStrategy.getCompressionLevel();
+            gzip = compress(content, out -> new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            });
+            Deflater deflater = new Deflater(level);
+            try {
+                deflate = compress(content, out -> new DeflaterOutputStream(out, deflater, BUFFER_SIZE));
+            } finally {
+                deflater.end();
+            }
+        }
+        long checkIntervalNanos = configuration.getModificationCheckInterval().toNanos();
+        NettyCachedFileCustomizableResponseType cached = new NettyCachedFileCustomizableResponseType(url, file, mediaType, lastModified, etag(content), identity, gzip, deflate, checkIntervalNanos);
+        if (cached.getSize() > configuration.getMaximumMemorySize()) {
+            // it would be evicted as soon as it is added
+            cached.release();
+            rememberOversized(cache, url, file);
+            return null;
+        }
+        return cached;
+    }
+
+    private boolean shouldCompress(MediaType mediaType, int length) {
+        DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+        response.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, mediaType.toString())
+                .set(HttpHeaderNames.CONTENT_LENGTH, length);
+        return compressionStrategy.shouldCompress(response);
+    }
+
+    /**
+     * @param content    The content
+     * @param compressor Wraps an output stream in a compressing stream
+     * @return The compressed content or null if compression does not reduce its size
+     */
+    @Nullable
+    private static ByteBuf compress(byte[] content, CompressorFactory compressor) {
+        ByteBuf buffer = PooledByteBufAllocator.DEFAULT.directBuffer(content.length);
+        try (OutputStream out = compressor.create(new ByteBufOutputStream(buffer))) {
+            out.write(content);
+        } catch (IOException e) {
+            buffer.release();
+            return null;
+        }
+        if (buffer.readableBytes() >= content.length) {
+            buffer.release();
+            return null;
+        }
+        ByteBuf compressed = PooledByteBufAllocator.DEFAULT.directBuffer(buffer.readableBytes(), buffer.readableBytes()).writeBytes(buffer);
+        buffer.release();
+        return compressed;
+    }
+
+    /**
+     * @param in        The input stream
+     * @param maxLength The maximum number of bytes to read
+     * @return The bytes read or null if the stream is longer than the maximum length
+     * @throws IOException If the stream cannot be read
+     */
+    @Nullable
+    private static byte[] readAtMost(InputStream in, int maxLength) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (out.size() + read > maxLength) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cached resources of a mapping.
+     */
+    private static final class ContentCache {
+
+        final StaticResourceConfiguration.CacheConfiguration configuration;
+        final Map<String, NettyCachedFileCustomizableResponseType> contents;
+        // the System.nanoTime() until which the resources that are too large to be cached are not loaded again
+        final Map<String, Long> oversized;
+
+        ContentCache(StaticResourceConfiguration.CacheConfiguration configuration) {
+            this.configuration = configuration;
+            this.contents = new ConcurrentLinkedHashMap.Builder<String, NettyCachedFileCustomizableResponseType>()
+                    .maximumWeightedCapacity(Math.max(configuration.getMaximumMemorySize(), 1))
+                    .weigher(cached -> Math.max(cached.getSize(), 1))
+                    .listener((key, cached) -> cached.release())
+                    .build();
+            this.oversized = new ConcurrentLinkedHashMap.Builder<String, Long>()
+                    .maximumWeightedCapacity(MAX_OVERSIZED_RESOURCES)
+                    .build();
+        }
+    }
+
+    /**
+     * Wraps an output stream in a compressing stream.
+     */
+    @FunctionalInterface
+    private interface CompressorFactory {
+        /**
+         * @param out The output stream
+         * @return The compressing stream
+         * @throws IOException If the stream cannot be created
+         */
+        OutputStream create(OutputStream out) throws IOException;
+    }
+}
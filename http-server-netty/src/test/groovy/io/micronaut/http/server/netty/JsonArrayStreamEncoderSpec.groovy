@@ -0,0 +1,104 @@
+package io.micronaut.http.server.netty
+
+import io.netty.buffer.ByteBuf
+import io.netty.buffer.Unpooled
+import io.netty.buffer.UnpooledByteBufAllocator
+import io.netty.handler.codec.http.HttpContent
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class JsonArrayStreamEncoderSpec extends Specification {
+
+    RecordingSubscriber downstream = new RecordingSubscriber()
+    Subscription upstream = Mock(Subscription)
+
+    void "test signals after a terminal signal are dropped"() {
+        given:
+        JsonArrayStreamEncoder encoder = encoder(1)
+        encoder.onSubscribe(upstream)
+        downstream.subscription.request(10)
+
+        when:
+        encoder.onNext(json('1'))
+        encoder.onError(new RuntimeException('failed'))
+        ByteBuf late = json('2')
+        encoder.onNext(late)
+        encoder.onComplete()
+        encoder.onError(new RuntimeException('failed again'))
+
+        then:
+        downstream.contents == ['[1']
+        downstream.errors*.message == ['failed']
+        downstream.completions == 0
+        late.refCnt() == 0
+    }
+
+    void "test cancel releases the buffered elements"() {
+        given:
+        JsonArrayStreamEncoder encoder = encoder(10)
+        encoder.onSubscribe(upstream)
+        downstream.subscription.request(1)
+        ByteBuf element = json('1')
+
+        when:
+        encoder.onNext(element)
+        downstream.subscription.cancel()
+
+        then:
+        1 * upstream.cancel()
+        element.refCnt() == 0
+        encoder.buffer == null
+
+        when:"the upstream publisher emits and completes after the cancellation"
+        ByteBuf late = json('2')
+        encoder.onNext(late)
+        encoder.onComplete()
+
+        then:
+        late.refCnt() == 0
+        encoder.buffer == null
+        encoder.pendingLast.get() == null
+        downstream.contents.isEmpty()
+        downstream.completions == 0
+    }
+
+    private JsonArrayStreamEncoder encoder(int flushElements) {
+        new JsonArrayStreamEncoder(downstream, UnpooledByteBufAllocator.DEFAULT, { throw new UnsupportedOperationException() }, flushElements, Integer.MAX_VALUE)
+    }
+
+    private static ByteBuf json(String value) {
+        Unpooled.copiedBuffer(value, StandardCharsets.UTF_8)
+    }
+
+    static class RecordingSubscriber implements Subscriber<HttpContent> {
+
+        Subscription subscription
+        List<String> contents = []
+        List<Throwable> errors = []
+        int completions
+
+        @Override
+        void onSubscribe(Subscription s) {
+            subscription = s
+        }
+
+        @Override
+        void onNext(HttpContent content) {
+            contents << content.content().toString(StandardCharsets.UTF_8)
+            content.release()
+        }
+
+        @Override
+        void onError(Throwable t) {
+            errors << t
+        }
+
+        @Override
+        void onComplete() {
+            completions++
+        }
+    }
+}
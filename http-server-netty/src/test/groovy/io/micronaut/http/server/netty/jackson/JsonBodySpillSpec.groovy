@@ -0,0 +1,64 @@
+package io.micronaut.http.server.netty.jackson
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class JsonBodySpillSpec extends Specification {
+
+    void "test json bodies above the spill threshold are bound"() {
+        File location = Files.createTempDirectory("json-spill").toFile()
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.server.netty.json-body.spill-threshold': '1KB',
+                'micronaut.server.netty.json-body.spill-location': location.absolutePath
+        ])
+        RxHttpClient client = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        String value = 'y' * 100000
+        String result = client.retrieve(HttpRequest.POST("/json-spill", '{"x":"' + value + '","n":[1,2,3]}')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)).blockingFirst()
+
+        then:
+        result == "100000:3"
+        location.list().length == 0
+
+        when:
+        result = client.retrieve(HttpRequest.POST("/json-spill", '{"x":"small","n":[1]}')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)).blockingFirst()
+
+        then:
+        result == "5:1"
+
+        when:
+        client.retrieve(HttpRequest.POST("/json-spill", '{"x":"' + value + '","n":[1,2')
+                .contentType(MediaType.APPLICATION_JSON_TYPE)).blockingFirst()
+
+        then:
+        thrown(HttpClientResponseException)
+        location.list().length == 0
+
+        cleanup:
+        client.close()
+        embeddedServer.close()
+        location.deleteDir()
+    }
+
+    @Controller("/json-spill")
+    static class SpillController {
+
+        @Post(consumes = MediaType.APPLICATION_JSON)
+        String post(@Body Map<String, Object> body) {
+            "${body.x.length()}:${body.n.size()}"
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.micronaut.http.HttpStatus
 import io.micronaut.http.client.RxHttpClient
 import io.micronaut.http.client.exceptions.HttpClientResponseException
 import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.netty.types.files.StaticResourceContentCache
 import io.micronaut.runtime.server.EmbeddedServer
 import io.micronaut.web.router.resource.StaticResourceConfiguration
 import java.nio.file.Paths
@@ -248,7 +249,6 @@ class StaticResourceResolutionSpec extends AbstractMicronautSpec {
 
         cleanup:
         embeddedServer.stop()
-        embeddedServer.close()
     }
 
     void "test resources with configured mapping automatically resolves index.html in path"() {
@@ -277,7 +277,6 @@ class StaticResourceResolutionSpec extends AbstractMicronautSpec {
 
         cleanup:
         embeddedServer.stop()
-        embeddedServer.close()
     }
 
     void "test its not possible to configure a path with 'classpath:'"() {
@@ -319,4 +318,184 @@ info:
         embeddedServer.close()
     }
 
+
+    void "test cached resources are returned with an entity tag"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['classpath:public', 'file:' + tempFile.parent],
+                'micronaut.router.static-resources.default.cache.enabled': true], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        def response = rxClient.exchange(
+                HttpRequest.GET('/'+tempFile.getName()), String
+        ).blockingFirst()
+
+        then:
+        response.status == HttpStatus.OK
+        response.header(CONTENT_TYPE) == "text/html"
+        response.header(ETAG).startsWith('"')
+        response.headers.getDate(LAST_MODIFIED) == ZonedDateTime.ofInstant(Instant.ofEpochMilli(tempFile.lastModified()), ZoneId.of("GMT")).truncatedTo(ChronoUnit.SECONDS)
+        response.body() == "<html><head></head><body>HTML Page from static file</body></html>"
+
+        when:
+        def notModified = rxClient.exchange(
+                HttpRequest.GET('/'+tempFile.getName()).header(IF_NONE_MATCH, response.header(ETAG)), String
+        ).blockingFirst()
+
+        then:
+        notModified.status == HttpStatus.NOT_MODIFIED
+        notModified.header(ETAG) == response.header(ETAG)
+
+        when:
+        def modified = rxClient.exchange(
+                HttpRequest.GET('/'+tempFile.getName()).header(IF_NONE_MATCH, '"other"'), String
+        ).blockingFirst()
+
+        then:
+        modified.status == HttpStatus.OK
+        modified.body() == "<html><head></head><body>HTML Page from static file</body></html>"
+
+        cleanup:
+        embeddedServer.stop()
+    }
+
+    void "test cached resources from the file system support ranges and are reloaded when modified"() {
+        given:
+        File dir = File.createTempDir()
+        File file = new File(dir, 'cached.html')
+        file.text = '<html>first</html>'
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['file:' + dir],
+                'micronaut.router.static-resources.default.cache.enabled': true,
+                'micronaut.router.static-resources.default.cache.modification-check-interval': '0s'], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/cached.html'), String).blockingFirst()
+
+        then:
+        response.body() == '<html>first</html>'
+        response.header(ACCEPT_RANGES) == 'bytes'
+
+        when:
+        def conditionalPartial = rxClient.exchange(HttpRequest.GET('/cached.html')
+                .header(RANGE, 'bytes=6-10')
+                .header(IF_RANGE, response.header(ETAG)), String).blockingFirst()
+
+        then:
+        conditionalPartial.status == HttpStatus.PARTIAL_CONTENT
+        conditionalPartial.header(ETAG) == response.header(ETAG)
+        conditionalPartial.body() == 'first'
+
+        when:
+        def partial = rxClient.exchange(HttpRequest.GET('/cached.html').header(RANGE, 'bytes=6-10'), String).blockingFirst()
+
+        then:
+        partial.status == HttpStatus.PARTIAL_CONTENT
+        partial.header(CONTENT_RANGE) == 'bytes 6-10/18'
+        partial.body() == 'first'
+
+        when:
+        file.text = '<html>second</html>'
+        file.setLastModified(file.lastModified() + 2000)
+        def modified = rxClient.exchange(HttpRequest.GET('/cached.html'), String).blockingFirst()
+
+        then:
+        modified.body() == '<html>second</html>'
+        modified.header(ETAG) != response.header(ETAG)
+
+        cleanup:
+        embeddedServer.stop()
+        dir.deleteDir()
+    }
+
+    void "test cached files are not checked for modifications within the check interval"() {
+        given:
+        File dir = File.createTempDir()
+        File file = new File(dir, 'cached.html')
+        file.text = '<html>first</html>'
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['file:' + dir],
+                'micronaut.router.static-resources.default.cache.enabled': true,
+                'micronaut.router.static-resources.default.cache.modification-check-interval': '1h'], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        def response = rxClient.exchange(HttpRequest.GET('/cached.html'), String).blockingFirst()
+        file.text = '<html>second</html>'
+        file.setLastModified(file.lastModified() + 2000)
+        def cached = rxClient.exchange(HttpRequest.GET('/cached.html'), String).blockingFirst()
+
+        then:
+        response.body() == '<html>first</html>'
+        cached.body() == '<html>first</html>'
+        cached.header(ETAG) == response.header(ETAG)
+
+        cleanup:
+        embeddedServer.stop()
+        dir.deleteDir()
+    }
+
+    void "test compressed variants of cached resources have their own entity tags"() {
+        given:
+        File dir = File.createTempDir()
+        File file = new File(dir, 'large.html')
+        file.text = '<html>' + ('compressible ' * 1000) + '</html>'
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['file:' + dir],
+                'micronaut.router.static-resources.default.cache.enabled': true], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+
+        when:
+        def identity = rxClient.exchange(HttpRequest.GET('/large.html'), String).blockingFirst()
+        def gzip = rxClient.exchange(HttpRequest.GET('/large.html').header(ACCEPT_ENCODING, 'gzip'), String).blockingFirst()
+
+        then:
+        identity.body() == file.text
+        gzip.body() == file.text
+        gzip.header(ETAG) == identity.header(ETAG).replaceAll('"$', '-gzip"')
+
+        when:
+        def gzipForIdentityTag = rxClient.exchange(HttpRequest.GET('/large.html')
+                .header(ACCEPT_ENCODING, 'gzip')
+                .header(IF_NONE_MATCH, identity.header(ETAG)), String).blockingFirst()
+        def notModified = rxClient.exchange(HttpRequest.GET('/large.html')
+                .header(ACCEPT_ENCODING, 'gzip')
+                .header(IF_NONE_MATCH, gzip.header(ETAG)), String).blockingFirst()
+
+        then:
+        gzipForIdentityTag.status == HttpStatus.OK
+        gzipForIdentityTag.body() == file.text
+        notModified.status == HttpStatus.NOT_MODIFIED
+        notModified.header(ETAG) == gzip.header(ETAG)
+
+        cleanup:
+        embeddedServer.stop()
+        dir.deleteDir()
+    }
+
+    void "test resources that do not fit the cache are served without being cached"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.router.static-resources.default.paths': ['classpath:public', 'file:' + tempFile.parent],
+                'micronaut.router.static-resources.default.cache.enabled': true,
+                'micronaut.router.static-resources.default.cache.maximum-memory-size': 10], Environment.TEST)
+        RxHttpClient rxClient = embeddedServer.applicationContext.createBean(RxHttpClient, embeddedServer.getURL())
+        StaticResourceContentCache contentCache = embeddedServer.applicationContext.getBean(StaticResourceContentCache)
+
+        when:
+        def responses = (1..2).collect {
+            rxClient.exchange(HttpRequest.GET('/'+tempFile.getName()), String).blockingFirst()
+        }
+
+        then:
+        responses*.body() == ["<html><head></head><body>HTML Page from static file</body></html>"] * 2
+        responses.every { it.header(ETAG) == null }
+        contentCache.caches.values()*.contents*.size() == [0]
+        contentCache.caches.values()*.oversized*.size() == [1]
+
+        cleanup:
+        embeddedServer.stop()
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.http.server.netty.routing
+
+import io.micronaut.context.BeanContext
+import io.micronaut.context.ExecutionHandleLocator
+import io.micronaut.context.annotation.Executable
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpMethod
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.inject.BeanDefinition
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import io.micronaut.web.router.DefaultRouteBuilder
+import io.micronaut.web.router.cache.RouteMatchCache
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.util.function.Predicate
+
+class RouteMatchCacheSpec extends AbstractMicronautSpec {
+
+    void "test routes without path variables are cached"() {
+        given:
+        RouteMatchCache cache = applicationContext.getBean(RouteMatchCache)
+
+        when:
+        String first = rxClient.retrieve(HttpRequest.GET("/route-cache/static").accept(MediaType.TEXT_PLAIN_TYPE)).blockingFirst()
+        String second = rxClient.retrieve(HttpRequest.GET("/route-cache/static").accept(MediaType.TEXT_PLAIN_TYPE)).blockingFirst()
+
+        then:
+        first == "text"
+        second == "text"
+        cache.size() == 1
+        cache.hits == 1
+        cache.misses == 1
+
+        when:
+        String json = rxClient.retrieve(HttpRequest.GET("/route-cache/static").accept(MediaType.APPLICATION_JSON_TYPE)).blockingFirst()
+
+        then:
+        json == '{"value":"json"}'
+        cache.size() == 2
+        cache.misses == 2
+
+        when:
+        String variable = rxClient.retrieve(HttpRequest.GET("/route-cache/foo").accept(MediaType.TEXT_PLAIN_TYPE)).blockingFirst()
+
+        then:
+        variable == "foo"
+        cache.size() == 2
+
+        when:
+        applicationContext.publishEvent(new RefreshEvent())
+
+        then:
+        cache.size() == 0
+    }
+
+    void "test routes with conditions are not cached"() {
+        given:
+        RouteMatchCache cache = applicationContext.getBean(RouteMatchCache)
+        cache.clear()
+
+        expect:
+        rxClient.retrieve(HttpRequest.GET("/route-cache/conditional")).blockingFirst() == "denied"
+        rxClient.retrieve(HttpRequest.GET("/route-cache/conditional").header("X-Allowed", "true")).blockingFirst() == "allowed"
+        rxClient.retrieve(HttpRequest.GET("/route-cache/conditional")).blockingFirst() == "denied"
+        cache.size() == 0
+    }
+
+    void "test routes with conditions for a custom HTTP method are not cached"() {
+        given:
+        RouteMatchCache cache = applicationContext.getBean(RouteMatchCache)
+        cache.clear()
+
+        expect:
+        rxClient.retrieve(HttpRequest.create(HttpMethod.CUSTOM, "/route-cache/custom", "REPORT")).blockingFirst() == "denied"
+        rxClient.retrieve(HttpRequest.create(HttpMethod.CUSTOM, "/route-cache/custom", "REPORT").header("X-Allowed", "true")).blockingFirst() == "allowed"
+        rxClient.retrieve(HttpRequest.create(HttpMethod.CUSTOM, "/route-cache/custom", "REPORT")).blockingFirst() == "denied"
+        cache.size() == 0
+    }
+
+    @Override
+    Map<String, Object> getConfiguration() {
+        super.getConfiguration() << ['micronaut.router.cache.enabled': true]
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteMatchCacheSpec')
+    @Controller("/route-cache")
+    static class RouteCacheController {
+
+        @Get("/static")
+        @Produces(MediaType.TEXT_PLAIN)
+        String text() {
+            "text"
+        }
+
+        @Get("/static")
+        @Produces(MediaType.APPLICATION_JSON)
+        Map<String, String> json() {
+            [value: "json"]
+        }
+
+        @Get("/{name}")
+        @Produces(MediaType.TEXT_PLAIN)
+        String variable(String name) {
+            name
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteMatchCacheSpec')
+    @Singleton
+    static class ConditionalTarget {
+
+        @Executable
+        String allowed() {
+            "allowed"
+        }
+
+        @Executable
+        String denied() {
+            "denied"
+        }
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteMatchCacheSpec')
+    @Singleton
+    static class ConditionalRoutes extends DefaultRouteBuilder {
+
+        ConditionalRoutes(ExecutionHandleLocator executionHandleLocator, UriNamingStrategy uriNamingStrategy) {
+            super(executionHandleLocator, uriNamingStrategy)
+        }
+
+        @Inject
+        void conditionalRoutes(ConditionalTarget target, BeanContext beanContext) {
+            GET("/route-cache/conditional", target, "allowed")
+                    .where({ HttpRequest<?> request -> request.headers.contains("X-Allowed") } as Predicate)
+            GET("/route-cache/conditional", target, "denied")
+                    .where({ HttpRequest<?> request -> !request.headers.contains("X-Allowed") } as Predicate)
+
+            BeanDefinition<ConditionalTarget> definition = beanContext.getBeanDefinition(ConditionalTarget)
+            buildBeanRoute("REPORT", HttpMethod.CUSTOM, "/route-cache/custom", definition, definition.findMethod("allowed").get())
+                    .where({ HttpRequest<?> request -> request.headers.contains("X-Allowed") } as Predicate)
+            buildBeanRoute("REPORT", HttpMethod.CUSTOM, "/route-cache/custom", definition, definition.findMethod("denied").get())
+                    .where({ HttpRequest<?> request -> !request.headers.contains("X-Allowed") } as Predicate)
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.micronaut.http.HttpResponse
 import io.micronaut.http.MediaType
 import io.micronaut.http.annotation.Controller
 import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
 import io.micronaut.http.client.RxStreamingHttpClient
 import io.micronaut.runtime.server.EmbeddedServer
 import io.reactivex.Single
@@ -97,6 +98,27 @@ class JsonStreamSpec extends Specification {
         books.blockingIterable().iterator().toList() == []
     }
 
+    void "test a json array is written in batches"() {
+        given:
+        EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+                'micronaut.server.netty.json-stream.flush-elements': 3,
+                'micronaut.server.netty.json-stream.flush-bytes': 64
+        ])
+        RxHttpClient client = server.applicationContext.createBean(RxHttpClient, server.getURL())
+
+        when:
+        String books = client.retrieve(HttpRequest.GET("/json/stream/array"), String).blockingFirst()
+        String empty = client.retrieve(HttpRequest.GET("/json/stream/array/empty"), String).blockingFirst()
+
+        then:
+        books == '[' + (0..<10).collect { '{"title":"Book ' + it + '"}' }.join(',') + ']'
+        empty == '[]'
+
+        cleanup:
+        client.close()
+        server.close()
+    }
+
     @Controller("/json/stream")
     static class StreamController {
 
@@ -115,6 +137,16 @@ class JsonStreamSpec extends Specification {
             return HttpResponse.ok(Single.just(new Book(title: "The Stand"))).header("X-MyHeader", "42")
         }
 
+        @Get(uri = "/array", produces = MediaType.APPLICATION_JSON)
+        Flowable<Book> array() {
+            return Flowable.range(0, 10).map({ new Book(title: "Book " + it) })
+        }
+
+        @Get(uri = "/array/empty", produces = MediaType.APPLICATION_JSON)
+        Flowable<Book> emptyArray() {
+            return Flowable.empty()
+        }
+
         @Get(uri = "/empty", produces = MediaType.APPLICATION_JSON_STREAM)
         Flowable<Book> emptyStream() {
             return Flowable.empty()
@@ -35,6 +35,7 @@ import java.nio.file.Files
 import java.time.Instant
 import java.time.ZoneId
 import java.time.ZonedDateTime
+import java.time.format.DateTimeFormatter
 import java.time.temporal.ChronoUnit
 import java.util.concurrent.ExecutorService
 
@@ -276,6 +277,86 @@ class FileTypeHandlerSpec extends AbstractMicronautSpec {
         SystemFile                                | true
     }
 
+    void "test a single byte range is returned"() {
+        when:
+        MutableHttpRequest<?> request = HttpRequest.GET('/test/html').header(RANGE, range)
+        def response = rxClient.exchange(request, String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(ACCEPT_RANGES) == "bytes"
+        response.header(CONTENT_RANGE) == contentRange
+        response.header(CONTENT_TYPE) == "text/html"
+        Integer.parseInt(response.header(CONTENT_LENGTH)) == body.length()
+        response.body() == body
+
+        where:
+        range          | contentRange                                              | body
+        "bytes=0-5"    | "bytes 0-5/${tempFileContents.length()}"                  | tempFileContents.substring(0, 6)
+        "bytes=6-"     | "bytes 6-${tempFileContents.length() - 1}/${tempFileContents.length()}" | tempFileContents.substring(6)
+        "bytes=-7"     | "bytes ${tempFileContents.length() - 7}-${tempFileContents.length() - 1}/${tempFileContents.length()}" | tempFileContents.substring(tempFileContents.length() - 7)
+        "bytes=0-2,3-5" | "bytes 0-5/${tempFileContents.length()}"                 | tempFileContents.substring(0, 6)
+    }
+
+    void "test multiple byte ranges are returned as multipart/byteranges"() {
+        when:
+        MutableHttpRequest<?> request = HttpRequest.GET('/test/html').header(RANGE, "bytes=0-5,-7")
+        def response = rxClient.exchange(request, String).blockingFirst()
+        String boundary = response.header(CONTENT_TYPE) - "multipart/byteranges; boundary="
+        int length = tempFileContents.length()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.header(CONTENT_TYPE).startsWith("multipart/byteranges; boundary=")
+        response.body() == "--$boundary\r\nContent-Type: text/html\r\nContent-Range: bytes 0-5/$length\r\n\r\n${tempFileContents.substring(0, 6)}" +
+                "\r\n--$boundary\r\nContent-Type: text/html\r\nContent-Range: bytes ${length - 7}-${length - 1}/$length\r\n\r\n${tempFileContents.substring(length - 7)}" +
+                "\r\n--$boundary--\r\n"
+        Integer.parseInt(response.header(CONTENT_LENGTH)) == response.body().length()
+    }
+
+    void "test 416 is returned if no range can be satisfied"() {
+        when:
+        MutableHttpRequest<?> request = HttpRequest.GET('/test/html').header(RANGE, "bytes=1000-")
+        rxClient.exchange(request, String).blockingFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.code() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code
+        e.response.header(CONTENT_RANGE) == "bytes */${tempFileContents.length()}"
+    }
+
+    void "test the complete file is returned for an invalid range or a failed If-Range"() {
+        when:
+        MutableHttpRequest<?> request = HttpRequest.GET('/test/html').header(RANGE, range)
+        if (ifRange) {
+            request.header(IF_RANGE, ifRange)
+        }
+        def response = rxClient.exchange(request, String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.OK.code
+        response.header(CONTENT_RANGE) == null
+        response.body() == tempFileContents
+
+        where:
+        range         | ifRange
+        "bytes=5-1"   | null
+        "lines=0-5"   | null
+        "bytes=0-5"   | '"some-etag"'
+        "bytes=0-5"   | "Wed, 21 Oct 2015 07:28:00 GMT"
+    }
+
+    void "test a matching If-Range date returns the range"() {
+        when:
+        MutableHttpRequest<?> request = HttpRequest.GET('/test/html').header(RANGE, "bytes=0-5")
+        request.header(IF_RANGE, DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(tempFile.lastModified()), ZoneId.of("GMT"))))
+        def response = rxClient.exchange(request, String).blockingFirst()
+
+        then:
+        response.code() == HttpStatus.PARTIAL_CONTENT.code
+        response.body() == tempFileContents.substring(0, 6)
+    }
+
     @Controller('/test')
     @Requires(property = 'spec.name', value = 'FileTypeHandlerSpec')
     static class TestController {
@@ -41,6 +41,7 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
     private final Pattern matchPattern;
     private final boolean isRoot;
     private final boolean exactMatch;
+    private final SegmentMatcher segmentMatcher;
 
     // Matches cache
     private Optional<UriMatchInfo> rootMatchInfo;
@@ -63,13 +64,16 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
      */
     protected UriMatchTemplate(CharSequence templateString, Object... parserArguments) {
         super(templateString, parserArguments);
-        if (variables.isEmpty() && Pattern.quote(templateString.toString()).equals(pattern.toString())) {
+        String patternString = pattern.toString();
+        if (variables.isEmpty() && Pattern.quote(templateString.toString()).equals(patternString)) {
             // if there are no variables and a match pattern matches template we can assume it matches exactly
             this.matchPattern = null;
             this.exactMatch = true;
+            this.segmentMatcher = null;
         } else {
-            this.matchPattern = Pattern.compile(pattern.toString());
+            this.matchPattern = Pattern.compile(patternString);
             this.exactMatch = false;
+            this.segmentMatcher = SegmentMatcher.of(patternString, variables);
         }
         this.isRoot = isRoot();
         // cleanup / reduce memory consumption
@@ -90,9 +94,11 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             // if there are no variables and match pattern matches template we can assume it matches exactly
             this.matchPattern = null;
             this.exactMatch = true;
+            this.segmentMatcher = null;
         } else {
             this.matchPattern = matchPattern;
             this.exactMatch = false;
+            this.segmentMatcher = SegmentMatcher.of(matchPattern.pattern(), variables);
         }
     }
 
@@ -143,6 +149,25 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         });
     }
 
+    /**
+     * Returns the raw path content that precedes the first variable of this template. Any URI matched
+     * by this template starts with this prefix, which allows routers to narrow down candidate templates
+     * without evaluating the match pattern.
+     *
+     * @return The literal prefix, never null
+     * @since 2.5.12
+     */
+    public String getLiteralPrefix() {
+        StringBuilder prefix = new StringBuilder();
+        for (PathSegment segment : segments) {
+            if (segment.isVariable() || segment.isQuerySegment()) {
+                break;
+            }
+            prefix.append(segment);
+        }
+        return prefix.toString();
+    }
+
     /**
      * Match the given URI string.
      *
@@ -182,6 +207,9 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
             }
             return Optional.empty();
         }
+        if (segmentMatcher != null) {
+            return segmentMatcher.match(uri);
+        }
         Matcher matcher = matchPattern.matcher(uri);
         if (matcher.matches()) {
             if (variables.isEmpty()) {
@@ -334,6 +362,214 @@ public class UriMatchTemplate extends UriTemplate implements UriMatcher {
         }
     }
 
+    /**
+     * Matches templates that consist only of raw content and simple <code>{var}</code> variables without evaluating
+     * the regular expression built by {@link UriMatchTemplateParser}. This is only possible when every variable is
+     * either the last element of the template or is followed by raw content starting with a forward slash, in which
+     * case the value of the variable can be determined without backtracking.
+     */
+    private static final class SegmentMatcher {
+
+        private static final String SIMPLE_VARIABLE_PATTERN = "(" + VARIABLE_MATCH_PATTERN + "+?))";
+        private static final String QUOTE_START = "\\Q";
+        private static final String QUOTE_END = "\\E";
+
+        private final String[] literals;
+        private final List<UriMatchVariable> variables;
+        private final Map<String, UriMatchVariable> variableMap;
+
+        /**
+         * @param literals  The raw content preceding each variable, followed by the trailing raw content
+         * @param variables The variables
+         */
+        private SegmentMatcher(String[] literals, List<UriMatchVariable> variables) {
+            this.literals = literals;
+            // a snapshot, since nesting a template appends the nested variables to the list of the parent
+            this.variables = Collections.unmodifiableList(new ArrayList<>(variables));
+            LinkedHashMap<String, UriMatchVariable> vm = new LinkedHashMap<>(variables.size());
+            for (UriMatchVariable variable : variables) {
+                vm.put(variable.getName(), variable);
+            }
+            this.variableMap = Collections.unmodifiableMap(vm);
+        }
+
+        /**
+         * Attempts to build a segment matcher equivalent to the given match pattern.
+         *
+         * @param pattern   The match pattern
+         * @param variables The variables
+         * @return The matcher or {@code null} if the pattern requires regular expression matching
+         */
+        static SegmentMatcher of(String pattern, List<UriMatchVariable> variables) {
+            int variableCount = variables.size();
+            if (variableCount == 0) {
+                return null;
+            }
+            String[] literals = new String[variableCount + 1];
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+            int pos = 0;
+            int length = pattern.length();
+            while (pos < length) {
+                if (pattern.startsWith(QUOTE_START, pos)) {
+                    int end = pattern.indexOf(QUOTE_END, pos + QUOTE_START.length());
+                    if (end == -1) {
+                        return null;
+                    }
+                    literal.append(pattern, pos + QUOTE_START.length(), end);
+                    pos = end + QUOTE_END.length();
+                } else if (pattern.startsWith(SIMPLE_VARIABLE_PATTERN, pos)) {
+                    if (index == variableCount) {
+                        return null;
+                    }
+                    literals[index++] = literal.toString();
+                    literal.setLength(0);
+                    pos += SIMPLE_VARIABLE_PATTERN.length();
+                } else {
+                    return null;
+                }
+            }
+            if (index != variableCount) {
+                return null;
+            }
+            literals[index] = literal.toString();
+            for (int i = 1; i < literals.length; i++) {
+                String following = literals[i];
+                boolean last = i == variableCount;
+                if (!(last && following.isEmpty()) && !(following.length() > 0 && following.charAt(0) == '/')) {
+                    return null;
+                }
+            }
+            return new SegmentMatcher(literals, variables);
+        }
+
+        /**
+         * @param uri The URI, without query and trailing slash
+         * @return The match info if the URI matches
+         */
+        Optional<UriMatchInfo> match(String uri) {
+            int variableCount = literals.length - 1;
+            int length = uri.length();
+            int[] bounds = new int[variableCount * 2];
+            int pos = 0;
+            for (int i = 0; i <= variableCount; i++) {
+                String literal = literals[i];
+                if (!uri.startsWith(literal, pos)) {
+                    return Optional.empty();
+                }
+                pos += literal.length();
+                if (i == variableCount) {
+                    break;
+                }
+                int end = pos;
+                while (end < length && !isReserved(uri.charAt(end))) {
+                    end++;
+                }
+                if (end == pos) {
+                    return Optional.empty();
+                }
+                bounds[i * 2] = pos;
+                bounds[i * 2 + 1] = end;
+                pos = end;
+            }
+            if (pos != length) {
+                return Optional.empty();
+            }
+            return Optional.of(new SegmentUriMatchInfo(uri, bounds, this));
+        }
+
+        private static boolean isReserved(char c) {
+            switch (c) {
+                case '/':
+                case '?':
+                case '#':
+                case '&':
+                case ';':
+                case '+':
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * A {@link UriMatchInfo} produced by a {@link SegmentMatcher} that only materializes the variable values
+     * when they are requested.
+     */
+    private static final class SegmentUriMatchInfo implements UriMatchInfo {
+
+        private final String uri;
+        private final int[] bounds;
+        private final SegmentMatcher matcher;
+        private Map<String, Object> variableValues;
+
+        /**
+         * @param uri     The URI
+         * @param bounds  The start and end index of each variable value within the URI
+         * @param matcher The matcher
+         */
+        SegmentUriMatchInfo(String uri, int[] bounds, SegmentMatcher matcher) {
+            this.uri = uri;
+            this.bounds = bounds;
+            this.matcher = matcher;
+        }
+
+        @Override
+        public String getUri() {
+            return uri;
+        }
+
+        @Override
+        public Map<String, Object> getVariableValues() {
+            Map<String, Object> values = variableValues;
+            if (values == null) {
+                List<UriMatchVariable> variables = matcher.variables;
+                values = new LinkedHashMap<>(variables.size());
+                for (int i = 0; i < variables.size(); i++) {
+                    values.put(variables.get(i).getName(), uri.substring(bounds[i * 2], bounds[i * 2 + 1]));
+                }
+                variableValues = values;
+            }
+            return values;
+        }
+
+        @Override
+        public List<UriMatchVariable> getVariables() {
+            return matcher.variables;
+        }
+
+        @Override
+        public Map<String, UriMatchVariable> getVariableMap() {
+            return matcher.variableMap;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            SegmentUriMatchInfo that = (SegmentUriMatchInfo) o;
+            return uri.equals(that.uri) && matcher.variables.equals(that.matcher.variables);
+        }
+
+        @Override
+        public String toString() {
+            return getUri();
+        }
+
+        @Override
+        public int hashCode() {
+            int result = uri.hashCode();
+            result = 31 * result + matcher.variables.hashCode();
+            return result;
+        }
+    }
+
     /**
      * <p>Extended version of {@link UriTemplate.UriTemplateParser} that builds a regular expression to match a path.
      * Note that fragments (#) and queries (?) are ignored for the purposes of matching.</p>
@@ -204,4 +204,75 @@ class UriMatchTemplateSpec extends Specification {
         "/{+someId}"    | '/username%2B1@company.com'   | true      | [someId: 'username%2B1@company.com']
         "/{+someId}"    | '/username+1@company.com'     | true      | [someId: 'username+1@company.com']
     }
+
+    @Unroll
+    void "Test simple URI template #template is matched without a regular expression for #uri"() {
+        given:
+        UriMatchTemplate matchTemplate = new UriMatchTemplate(template)
+        Optional<UriMatchInfo> info = matchTemplate.match(uri)
+
+        expect:
+        info.isPresent() == matches
+        info.orElse(null)?.variableValues == variables
+        info.map { it.getClass().simpleName }.orElse(null) == (matches ? 'SegmentUriMatchInfo' : null)
+        info.map { it.variableMap.keySet() as List }.orElse(null) == variables?.keySet()?.toList()
+
+        where:
+        template                      | uri                        | matches | variables
+        "/books/{id}"                 | '/books/1'                 | true    | [id: '1']
+        "/books/{id}"                 | '/books/1/'                | true    | [id: '1']
+        "/books/{id}"                 | '/books/1?foo=bar'         | true    | [id: '1']
+        "/books/{id}"                 | '/books/'                  | false   | null
+        "/books/{id}"                 | '/books/1/2'               | false   | null
+        "/books/{id}"                 | '/books/1;2'               | false   | null
+        "/books/{id}"                 | '/book/1'                  | false   | null
+        "/books/{id}/authors/{name}"  | '/books/1/authors/fred'    | true    | [id: '1', name: 'fred']
+        "/books/{id}/authors/{name}"  | '/books/1/authors'         | false   | null
+        "/{a}/{b}"                    | '/foo/bar'                 | true    | [a: 'foo', b: 'bar']
+        "/{a}/{b}"                    | '/foo/bar/baz'             | false   | null
+    }
+
+    @Unroll
+    void "Test URI template #template that cannot be matched by segment still matches #uri"() {
+        given:
+        UriMatchTemplate matchTemplate = new UriMatchTemplate(template)
+        Optional<UriMatchInfo> info = matchTemplate.match(uri)
+
+        expect:
+        info.isPresent()
+        info.get().variableValues == variables
+        info.get().getClass().simpleName == 'DefaultUriMatchInfo'
+
+        where:
+        template                   | uri                  | variables
+        "/books/{id}.json"         | '/books/1.json'      | [id: '1']
+        "/books/{id:[0-9]+}"       | '/books/12'          | [id: '12']
+        "/books{/id}"              | '/books/1'           | [id: '1']
+        "/books/{+path}"           | '/books/a/b'         | [path: 'a/b']
+        "/books/{id}{?max}"        | '/books/1'           | [id: '1']
+    }
+
+    void "Test nested simple URI template is matched without a regular expression"() {
+        given:
+        UriMatchTemplate matchTemplate = new UriMatchTemplate("/books").nest("/{id}/authors/{name}")
+        Optional<UriMatchInfo> info = matchTemplate.match('/books/1/authors/fred')
+
+        expect:
+        info.isPresent()
+        info.get().variableValues == [id: '1', name: 'fred']
+        info.get().getClass().simpleName == 'SegmentUriMatchInfo'
+    }
+
+    void "Test a parent URI template still matches after a template is nested under it"() {
+        given:
+        UriMatchTemplate parent = UriMatchTemplate.of("/books/{id}")
+        UriMatchTemplate nested = parent.nest("/authors/{name}")
+
+        expect:
+        parent.match('/books/1').isPresent()
+        parent.match('/books/1').get().variableValues == [id: '1']
+        parent.match('/books/1').get().variables*.name == ['id']
+        !parent.match('/books/1/authors/fred').isPresent()
+        nested.match('/books/1/authors/fred').get().variableValues == [id: '1', name: 'fred']
+    }
 }
@@ -66,6 +66,87 @@ class TestInterceptor implements Interceptor {
 
     }
 
+    void 'test methods are invoked directly when no interceptor applies'() {
+        given:
+        ApplicationContext context = buildContext('''
+package directinvoke;
+
+import java.lang.annotation.*;
+import io.micronaut.aop.*;
+import io.micronaut.context.annotation.Requires;
+import javax.inject.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Singleton
+class MyBean {
+    int count;
+
+    @TestAnn
+    void test() {
+        count++;
+    }
+
+    @TestAnn
+    int add(int a, long b) {
+        return a + (int) b;
+    }
+
+    @TestAnn
+    String concat(String a, String... b) {
+        return a + String.join("", b);
+    }
+
+    @TestAnn2
+    String intercepted(String a) {
+        return a;
+    }
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface TestAnn {
+}
+
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Around
+@interface TestAnn2 {
+}
+
+@InterceptorBean(TestAnn.class)
+@Requires(property = "not.present")
+class DisabledInterceptor implements Interceptor {
+    @Override
+    public Object intercept(InvocationContext context) {
+        throw new IllegalStateException("Should not be invoked");
+    }
+}
+
+@InterceptorBean(TestAnn2.class)
+class UppercaseInterceptor implements MethodInterceptor<Object, Object> {
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        return context.proceed().toString().toUpperCase();
+    }
+}
+''')
+        def instance = getBean(context, 'directinvoke.MyBean')
+
+        when:
+        instance.test()
+
+        then:
+        instance instanceof Intercepted
+        instance.count == 1
+        instance.add(1, 2L) == 3
+        instance.concat("a", "b", "c") == "abc"
+        instance.intercepted("a") == "A"
+
+        cleanup:
+        context.close()
+    }
+
     void 'test method level interceptor matching'() {
         given:
         ApplicationContext context = buildContext('''
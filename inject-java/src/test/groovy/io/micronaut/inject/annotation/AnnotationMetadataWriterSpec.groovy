@@ -89,6 +89,27 @@ class Test {
     }
 
 
+    void "test declared and inherited annotation data share a map when equal"() {
+        given:
+        AnnotationMetadata toWrite = new DefaultAnnotationMetadata(
+                [(Primary.name): [:], (Requires.name): [property: 'foo']],
+                [(Qualifier.name): [:]],
+                [(Qualifier.name): [:]],
+                [(Primary.name): [:], (Requires.name): [property: 'foo']],
+                [(Qualifier.name): [Primary.name]]
+        )
+
+        when:
+        DefaultAnnotationMetadata metadata = (DefaultAnnotationMetadata) writeAndLoadMetadata("test", toWrite)
+
+        then:
+        metadata.declaredAnnotations.is(metadata.allAnnotations)
+        metadata.declaredStereotypes.is(metadata.allStereotypes)
+        metadata.hasDeclaredAnnotation(Primary)
+        metadata.hasDeclaredStereotype(Qualifier)
+        metadata.stringValue(Requires, "property").get() == 'foo'
+    }
+
     void "test annotation metadata with instantiated member"() {
         given:
         AnnotationMetadata toWrite = buildTypeAnnotationMetadata('''\
@@ -42,6 +42,28 @@ class RegisterSingletonSpec extends Specification {
         context.close()
     }
 
+    void "test register singleton after looking up a super type"() {
+        given:
+        BeanContext context = BeanContext.run()
+
+        expect:
+        context.getBeansOfType(RegisteredService).isEmpty()
+
+        when:
+        RegisteredServiceSingleton singleton = new RegisteredServiceSingleton()
+        context.registerSingleton(singleton)
+
+        then:
+        context.getBeansOfType(RegisteredService).toList() == [singleton]
+
+        cleanup:
+        context.close()
+    }
+
+    static interface RegisteredService {}
+
+    static class RegisteredServiceSingleton implements RegisteredService {}
+
     @Issue('https://github.com/micronaut-projects/micronaut-core/issues/1851')
     void "test register singleton with type qualifier"() {
         when:
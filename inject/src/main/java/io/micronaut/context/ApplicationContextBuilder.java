@@ -142,6 +142,17 @@ public interface ApplicationContextBuilder {
      */
     @NonNull ApplicationContextBuilder environmentPropertySource(boolean environmentPropertySource);
 
+    /**
+     * Set whether the bean definition references and the configuration files should be loaded in parallel at startup.
+     *
+     * @param parallelStartup The boolean
+     * @return This builder
+     * @since 2.5.12
+     */
+    default @NonNull ApplicationContextBuilder parallelStartup(boolean parallelStartup) {
+        return this;
+    }
+
     /**
      * Which environment variables should contribute to configuration.
      *
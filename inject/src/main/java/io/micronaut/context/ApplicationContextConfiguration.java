@@ -61,6 +61,17 @@ public interface ApplicationContextConfiguration extends BeanContextConfiguratio
         return true;
     }
 
+    /**
+     * Whether the bean definition references are loaded while the environment starts, and the configuration files of
+     * the property source loaders are read in parallel. Disabled by default.
+     *
+     * @return True if the startup work should be done in parallel
+     * @since 2.5.12
+     */
+    default boolean isParallelStartup() {
+        return false;
+    }
+
     /**
      * @return The environment variables to include in configuration
      */
@@ -37,6 +37,8 @@ import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -50,6 +52,7 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     private final ConversionService conversionService;
     private final ClassPathResourceLoader resourceLoader;
+    private final boolean parallelStartup;
     private Environment environment;
 
     private Iterable<BeanConfiguration> resolvedConfigurations;
@@ -104,6 +107,7 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
         ArgumentUtils.requireNonNull("configuration", configuration);
         this.conversionService = createConversionService();
         this.resourceLoader = configuration.getResourceLoader();
+        this.parallelStartup = configuration.isParallelStartup();
         this.environment = createEnvironment(configuration);
     }
 
@@ -176,7 +180,16 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     @Override
     public synchronized @NonNull ApplicationContext start() {
+        ForkJoinTask<List<BeanDefinitionReference>> beanReferences = null;
+        if (parallelStartup && resolvedBeanReferences == null && !isRunning()
+                && !(environment instanceof RuntimeConfiguredEnvironment && ((RuntimeConfiguredEnvironment) environment).isRuntimeConfigured())) {
+            // the references do not depend on the environment, so load them while it starts
+            beanReferences = ForkJoinPool.commonPool().submit(() -> super.resolveBeanDefinitionReferences(null));
+        }
         startEnvironment();
+        if (beanReferences != null) {
+            resolvedBeanReferences = beanReferences.join();
+        }
         return (ApplicationContext) super.start();
     }
 
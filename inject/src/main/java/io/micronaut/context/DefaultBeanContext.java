@@ -98,6 +98,7 @@ public class DefaultBeanContext implements BeanContext {
     private static final String PARALLEL_TYPE = Parallel.class.getName();
     private static final String INDEXES_TYPE = Indexes.class.getName();
     private static final String REPLACES_ANN = Replaces.class.getName();
+    private static final int BEAN_CANDIDATE_CACHE_SIZE = 2048;
     private static final Comparator<BeanRegistration<?>> BEAN_REGISTRATION_COMPARATOR = (o1, o2) -> {
         int order1 = OrderUtil.getOrder(o1.getBeanDefinition(), o1.getBean());
         int order2 = OrderUtil.getOrder(o2.getBeanDefinition(), o2.getBean());
@@ -122,7 +123,9 @@ public class DefaultBeanContext implements BeanContext {
     private final Map<BeanKey, Collection> initializedObjectsByType = new ConcurrentHashMap<>(50);
     private final Map<BeanKey, Optional<BeanDefinition>> beanConcreteCandidateCache =
             new ConcurrentLinkedHashMap.Builder<BeanKey, Optional<BeanDefinition>>().maximumWeightedCapacity(30).build();
-    private final Map<Class, Collection<BeanDefinition>> beanCandidateCache = new ConcurrentLinkedHashMap.Builder<Class, Collection<BeanDefinition>>().maximumWeightedCapacity(30).build();
+    // generously bounded, since classes generated or reloaded at runtime would otherwise keep their class loaders alive
+    private final Map<Class, Collection<BeanDefinition>> beanCandidateCache = new ConcurrentLinkedHashMap.Builder<Class, Collection<BeanDefinition>>().maximumWeightedCapacity(BEAN_CANDIDATE_CACHE_SIZE).build();
+    private final Map<Class, Collection<BeanDefinition>> beanInstanceCandidateCache = new ConcurrentLinkedHashMap.Builder<Class, Collection<BeanDefinition>>().maximumWeightedCapacity(30).build();
     private final Map<Class, Collection<BeanDefinitionReference>> beanIndex = new ConcurrentHashMap<>(12);
 
     private final ClassLoader classLoader;
@@ -568,7 +571,9 @@ public class DefaultBeanContext implements BeanContext {
         synchronized (singletonObjects) {
 
             initializedObjectsByType.clear();
-            beanCandidateCache.remove(type);
+            // the singleton is a candidate for any of its super types
+            beanCandidateCache.clear();
+            beanInstanceCandidateCache.clear();
             BeanDefinition<T> beanDefinition = inject ? findConcreteCandidate(null, type, qualifier, false, false).orElse(null) : null;
             if (beanDefinition != null && beanDefinition.getBeanType().isInstance(singleton)) {
                 try (BeanResolutionContext context = newResolutionContext(beanDefinition, null)) {
@@ -1376,6 +1381,7 @@ public class DefaultBeanContext implements BeanContext {
      */
     protected void invalidateCaches() {
         beanCandidateCache.clear();
+        beanInstanceCandidateCache.clear();
         initializedObjectsByType.clear();
     }
 
@@ -1816,7 +1822,7 @@ public class DefaultBeanContext implements BeanContext {
         }
         Collection<BeanDefinitionReference> beanDefinitionsClasses = this.beanDefinitionsClasses;
         Class<?> beanType = instance.getClass();
-        Collection<BeanDefinition> beanDefinitions = beanCandidateCache.get(beanType);
+        Collection<BeanDefinition> beanDefinitions = beanInstanceCandidateCache.get(beanType);
         if (beanDefinitions == null) {
             // first traverse component definition classes and load candidates
             if (!beanDefinitionsClasses.isEmpty()) {
@@ -1857,7 +1863,7 @@ public class DefaultBeanContext implements BeanContext {
                 }
                 beanDefinitions = Collections.emptySet();
             }
-            beanCandidateCache.put(beanType, beanDefinitions);
+            beanInstanceCandidateCache.put(beanType, beanDefinitions);
         }
         return beanDefinitions;
     }
@@ -48,6 +48,8 @@ import java.util.*;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -494,6 +496,19 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         Collection<PropertySourceLoader> propertySourceLoaders = getPropertySourceLoaders();
         if (propertySourceLoaders.isEmpty()) {
             loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), propertySources, resourceLoader);
+        } else if (configuration.isParallelStartup() && propertySourceLoaders.size() > 1) {
+            List<ForkJoinTask<List<PropertySource>>> tasks = new ArrayList<>(propertySourceLoaders.size());
+            for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> {
+                    List<PropertySource> loaded = new ArrayList<>(2);
+                    loadPropertySourceFromLoader(name, propertySourceLoader, loaded, resourceLoader);
+                    return loaded;
+                }));
+            }
+            // add the sources in the order of the loaders, as if they were read one after another
+            for (ForkJoinTask<List<PropertySource>> task : tasks) {
+                propertySources.addAll(task.join());
+            }
         } else {
             for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
                 if (LOG.isDebugEnabled()) {
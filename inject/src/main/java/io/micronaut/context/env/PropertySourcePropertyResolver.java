@@ -31,7 +31,6 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.MapPropertyResolver;
 import io.micronaut.core.value.PropertyResolver;
 import io.micronaut.core.value.ValueException;
-import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
 import io.micronaut.core.annotation.NonNull;
@@ -72,7 +71,7 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
     protected final Map<String, Object>[] nonGenerated = new Map[58];
     private final Random random = new Random();
     private final Map<String, Boolean> containsCache = new ConcurrentHashMap<>(20);
-    private final Map<String, Object> resolvedValueCache = new ConcurrentHashMap<>(20);
+    private final Map<ResolvedValueKey, Object> resolvedValueCache = new ConcurrentHashMap<>(20);
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -245,8 +244,8 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         } else {
             Objects.requireNonNull(conversionContext, "Conversion context should not be null");
             Class<T> requiredType = conversionContext.getArgument().getType();
-            boolean cacheableType = ClassUtils.isJavaLangType(requiredType);
-            Object cached = cacheableType ? resolvedValueCache.get(cacheKey(name, requiredType)) : null;
+            boolean cacheableType = ClassUtils.isJavaLangType(requiredType) || requiredType.isEnum();
+            Object cached = cacheableType ? resolvedValueCache.get(new ResolvedValueKey(name, requiredType)) : null;
             if (cached != null) {
                 return cached == NO_VALUE ? Optional.empty() : Optional.of((T) cached);
             } else {
@@ -316,11 +315,11 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                         }
 
                         if (cacheableType) {
-                            resolvedValueCache.put(cacheKey(name, requiredType), converted.orElse((T) NO_VALUE));
+                            resolvedValueCache.put(new ResolvedValueKey(name, requiredType), converted.orElse((T) NO_VALUE));
                         }
                         return converted;
                     } else if (cacheableType) {
-                        resolvedValueCache.put(cacheKey(name, requiredType), NO_VALUE);
+                        resolvedValueCache.put(new ResolvedValueKey(name, requiredType), NO_VALUE);
                         return Optional.empty();
                     } else if (Properties.class.isAssignableFrom(requiredType)) {
                         Properties properties = resolveSubProperties(name, entries, conversionContext);
@@ -353,11 +352,6 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return Optional.empty();
     }
 
-    @NotNull
-    private <T> String cacheKey(@NonNull String name, Class<T> requiredType) {
-        return name + '|' + requiredType.getSimpleName();
-    }
-
     /**
      * Returns a combined Map of all properties in the catalog.
      *
@@ -573,6 +567,8 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     rawEntries.put(property, value);
                 }
             }
+            // values resolved while the source was processed may be stale
+            resetCaches();
         }
     }
 
@@ -934,6 +930,38 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         }
     }
 
+    /**
+     * The key of a resolved value.
+     */
+    private static final class ResolvedValueKey {
+        private final String name;
+        private final Class<?> type;
+        private final int hashCode;
+
+        ResolvedValueKey(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+            this.hashCode = 31 * name.hashCode() + type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResolvedValueKey)) {
+                return false;
+            }
+            ResolvedValueKey that = (ResolvedValueKey) o;
+            return type == that.type && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * The property catalog to use.
      */
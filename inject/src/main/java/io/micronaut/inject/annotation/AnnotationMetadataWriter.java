@@ -408,14 +408,39 @@ public class AnnotationMetadataWriter extends AbstractClassFileWriter {
         } else {
             generatorAdapter.loadThis();
         }
+        // when nothing is inherited the declared and the complete data are equal, so a single map is created for both
+        boolean shareAnnotations = CollectionUtils.isNotEmpty(annotationMetadata.declaredAnnotations)
+                && annotationMetadata.declaredAnnotations.equals(annotationMetadata.allAnnotations);
+        boolean shareStereotypes = CollectionUtils.isNotEmpty(annotationMetadata.declaredStereotypes)
+                && annotationMetadata.declaredStereotypes.equals(annotationMetadata.allStereotypes);
+        int annotationsLocal = -1;
+        int stereotypesLocal = -1;
         // 1st argument: the declared annotations
         pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.declaredAnnotations, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        if (shareAnnotations) {
+            generatorAdapter.dup();
+            annotationsLocal = generatorAdapter.newLocal(Type.getType(Map.class));
+            generatorAdapter.storeLocal(annotationsLocal);
+        }
         // 2nd argument: the declared stereotypes
         pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.declaredStereotypes, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        if (shareStereotypes) {
+            generatorAdapter.dup();
+            stereotypesLocal = generatorAdapter.newLocal(Type.getType(Map.class));
+            generatorAdapter.storeLocal(stereotypesLocal);
+        }
         // 3rd argument: all stereotypes
-        pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.allStereotypes, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        if (shareStereotypes) {
+            generatorAdapter.loadLocal(stereotypesLocal);
+        } else {
+            pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.allStereotypes, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        }
         // 4th argument: all annotations
-        pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.allAnnotations, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        if (shareAnnotations) {
+            generatorAdapter.loadLocal(annotationsLocal);
+        } else {
+            pushCreateAnnotationData(owningType, declaringClassWriter, generatorAdapter, annotationMetadata.allAnnotations, loadTypeMethods, annotationMetadata.getSourceRetentionAnnotations());
+        }
         // 5th argument: annotations by stereotype
         pushCreateAnnotationsByStereotypeData(generatorAdapter, annotationMetadata.annotationsByStereotype);
         // 6th argument: has property expressions
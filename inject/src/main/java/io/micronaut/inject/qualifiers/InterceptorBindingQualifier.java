@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -66,9 +65,12 @@ public final class InterceptorBindingQualifier<T> implements Qualifier<T> {
             if (supportedInterceptorTypes.contains(candidate.getBeanType())) {
                 return true;
             }
-            List<String> annotationNames = new ArrayList<>(resolveInterceptorValues(candidate.getAnnotationMetadata()));
-            annotationNames.retainAll(supportedAnnotationNames);
-            return !annotationNames.isEmpty();
+            for (String annotationName : resolveInterceptorValues(candidate.getAnnotationMetadata())) {
+                if (supportedAnnotationNames.contains(annotationName)) {
+                    return true;
+                }
+            }
+            return false;
         });
     }
 
@@ -93,12 +95,12 @@ public final class InterceptorBindingQualifier<T> implements Qualifier<T> {
         AnnotationValue<?> bindings = annotationMetadata
                 .getAnnotation(AnnotationUtil.ANN_INTERCEPTOR_BINDINGS);
         if (bindings != null) {
-            return bindings.getAnnotations(AnnotationMetadata.VALUE_MEMBER)
-                    .stream()
-                    .map(AnnotationValue::stringValue)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(Collectors.toList());
+            final List<AnnotationValue<Annotation>> values = bindings.getAnnotations(AnnotationMetadata.VALUE_MEMBER);
+            final List<String> names = new ArrayList<>(values.size());
+            for (AnnotationValue<Annotation> value : values) {
+                value.stringValue().ifPresent(names::add);
+            }
+            return names;
         } else {
             return Collections.emptyList();
         }
@@ -22,4 +22,20 @@ class ApplicationContextBuilderSpec extends Specification {
         config.deduceEnvironments.get() == false
 
     }
+
+    void "test parallel startup loads the same configuration"() {
+        given:
+        ApplicationContext sequential = ApplicationContext.builder().environments("foo").start()
+        ApplicationContext parallel = ApplicationContext.builder().environments("foo").parallelStartup(true).start()
+
+        expect:
+        ((ApplicationContextConfiguration) ApplicationContext.builder().parallelStartup(true)).parallelStartup
+        parallel.environment.propertySources*.name == sequential.environment.propertySources*.name
+        parallel.environment.getProperties("foo") == sequential.environment.getProperties("foo")
+        parallel.allBeanDefinitions.size() == sequential.allBeanDefinitions.size()
+
+        cleanup:
+        sequential.close()
+        parallel.close()
+    }
 }
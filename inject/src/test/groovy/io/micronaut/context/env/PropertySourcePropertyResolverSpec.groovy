@@ -641,4 +641,26 @@ class PropertySourcePropertyResolverSpec extends Specification {
         then:
         resolver.containsProperty("extra.listval")
     }
+
+    void "test resolved values are refreshed when a property source is added"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", ['foo.day': 'MONDAY', 'foo.port': '8080'])
+        )
+
+        expect:
+        resolver.getProperty('foo.day', java.time.DayOfWeek).get() == java.time.DayOfWeek.MONDAY
+        resolver.getProperty('foo.port', Integer).get() == 8080
+        resolver.getProperty('foo.port', Long).get() == 8080L
+        !resolver.getProperty('foo.name', String).isPresent()
+        !resolver.containsProperty('foo.name')
+
+        when:
+        resolver.addPropertySource(PropertySource.of("other", ['foo.day': 'FRIDAY', 'foo.name': 'bar']))
+
+        then:
+        resolver.getProperty('foo.day', java.time.DayOfWeek).get() == java.time.DayOfWeek.FRIDAY
+        resolver.getProperty('foo.name', String).get() == 'bar'
+        resolver.containsProperty('foo.name')
+    }
 }
@@ -15,13 +15,19 @@
  */
 package io.micronaut.management.endpoint.routes;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.management.endpoint.annotation.Endpoint;
 import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Selector;
 import io.micronaut.web.router.Router;
 import io.micronaut.web.router.UriRoute;
+import io.micronaut.web.router.cache.RouteMatchCache;
 import io.reactivex.Single;
 
+import javax.inject.Inject;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -34,16 +40,34 @@ import java.util.stream.Stream;
 @Endpoint("routes")
 public class RoutesEndpoint {
 
+    /**
+     * The selector under which the statistics of the {@link RouteMatchCache} are exposed.
+     */
+    public static final String CACHE = "cache";
+
     private final Router router;
     private final RouteDataCollector routeDataCollector;
+    private final RouteMatchCache routeMatchCache;
 
     /**
      * @param router The {@link Router}
      * @param routeDataCollector The {@link RouteDataCollector}
      */
     public RoutesEndpoint(Router router, RouteDataCollector routeDataCollector) {
+        this(router, routeDataCollector, null);
+    }
+
+    /**
+     * @param router The {@link Router}
+     * @param routeDataCollector The {@link RouteDataCollector}
+     * @param routeMatchCache The {@link RouteMatchCache} if enabled
+     * @since 2.5.12
+     */
+    @Inject
+    public RoutesEndpoint(Router router, RouteDataCollector routeDataCollector, @Nullable RouteMatchCache routeMatchCache) {
         this.router = router;
         this.routeDataCollector = routeDataCollector;
+        this.routeMatchCache = routeMatchCache;
     }
 
     /**
@@ -57,4 +81,21 @@ public class RoutesEndpoint {
                         .thenComparing(UriRoute::getHttpMethodName));
         return Single.fromPublisher(routeDataCollector.getData(uriRoutes));
     }
+
+    /**
+     * @param name The statistics name. Only {@value #CACHE} is supported.
+     * @return A map with the size, hits and misses of the {@link RouteMatchCache} if it is enabled; null otherwise.
+     * @since 2.5.12
+     */
+    @Read
+    public Map<String, Object> getStatistics(@Selector String name) {
+        if (routeMatchCache == null || !CACHE.equals(name)) {
+            return null;
+        }
+        Map<String, Object> statistics = new LinkedHashMap<>(3);
+        statistics.put("size", routeMatchCache.size());
+        statistics.put("hits", routeMatchCache.getHits());
+        statistics.put("misses", routeMatchCache.getMisses());
+        return statistics;
+    }
 }
@@ -591,6 +591,11 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
             return this;
         }
 
+        @Override
+        public boolean isConditional() {
+            return !conditions.isEmpty();
+        }
+
         @Override
         public Route body(String argument) {
             this.bodyArgumentName = argument;
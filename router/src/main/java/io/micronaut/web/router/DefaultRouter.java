@@ -41,7 +41,8 @@ import java.util.stream.Stream;
 
 /**
  * <p>The default {@link Router} implementation. This implementation does not perform any additional caching of
- * route discovery.</p>
+ * route discovery, however the routes of each HTTP method are indexed by the literal segments of their URI templates
+ * so that only candidate routes are matched against a URI.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -50,6 +51,7 @@ import java.util.stream.Stream;
 public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatch<?>> {
 
     private final Map<String, List<UriRoute>> routesByMethod = new HashMap<>();
+    private final Map<String, UriRouteIndex> routeIndexByMethod = new HashMap<>();
     private final List<StatusRoute> statusRoutes = new ArrayList<>();
     private final List<ErrorRoute> errorRoutes = new ArrayList<>();
     private final Set<Integer> exposedPorts;
@@ -116,7 +118,10 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
             this.exposedPorts = Collections.emptySet();
         }
 
-        routesByMethod.values().forEach(this::finalizeRoutes);
+        routesByMethod.forEach((method, routes) -> {
+            finalizeRoutes(routes);
+            routeIndexByMethod.put(method, new UriRouteIndex(routes));
+        });
         for (FilterRoute filterRoute : filterRoutes) {
             if (isMatchesAll(filterRoute)) {
                 alwaysMatchesFilterRoutes.add(filterRoute);
@@ -268,9 +273,17 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     @NonNull
     @Override
     public <T, R> Optional<UriRouteMatch<T, R>> route(@NonNull HttpMethod httpMethod, @NonNull CharSequence uri) {
-        List<UriRoute> routes = routesByMethod.getOrDefault(httpMethod.name(), Collections.emptyList());
-        for (UriRoute uriRoute : routes) {
-            Optional<UriRouteMatch> match = uriRoute.match(uri.toString());
+        final String methodName = httpMethod.name();
+        List<UriRoute> routes = routesByMethod.getOrDefault(methodName, Collections.emptyList());
+        if (routes.isEmpty()) {
+            return Optional.empty();
+        }
+        final String uriStr = uri.toString();
+        final int[] candidates = routeIndexByMethod.get(methodName).candidates(uriStr);
+        final int count = candidates != null ? candidates.length : routes.size();
+        for (int i = 0; i < count; i++) {
+            UriRoute uriRoute = routes.get(candidates != null ? candidates[i] : i);
+            Optional<UriRouteMatch> match = uriRoute.match(uriStr);
             if (match.isPresent()) {
                 return (Optional) match;
             }
@@ -457,8 +470,12 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
     public <T, R> Stream<UriRouteMatch<T, R>> findAny(@NonNull CharSequence uri, @Nullable HttpRequest<?> context) {
         List matchedRoutes = new ArrayList<>(5);
         final String uriStr = uri.toString();
-        for (List<UriRoute> routes : routesByMethod.values()) {
-            for (UriRoute route : routes) {
+        for (Map.Entry<String, List<UriRoute>> entry : routesByMethod.entrySet()) {
+            final List<UriRoute> routes = entry.getValue();
+            final int[] candidates = routeIndexByMethod.get(entry.getKey()).candidates(uriStr);
+            final int count = candidates != null ? candidates.length : routes.size();
+            for (int i = 0; i < count; i++) {
+                UriRoute route = routes.get(candidates != null ? candidates[i] : i);
                 final UriRouteMatch match = route.match(uriStr).orElse(null);
                 if (match != null && match.test(context)) {
                     matchedRoutes.add(match);
@@ -472,8 +489,11 @@ public class DefaultRouter implements Router, HttpServerFilterResolver<RouteMatc
         List<UriRoute> routes = routesByMethod.getOrDefault(httpMethodName, Collections.emptyList());
         if (CollectionUtils.isNotEmpty(routes)) {
             final String uriStr = uri.toString();
+            final int[] candidates = routeIndexByMethod.get(httpMethodName).candidates(uriStr);
+            final int count = candidates != null ? candidates.length : routes.size();
             List<UriRouteMatch<T, R>> routeMatches = new LinkedList<>();
-            for (UriRoute route : routes) {
+            for (int i = 0; i < count; i++) {
+                UriRoute route = routes.get(candidates != null ? candidates[i] : i);
                 Optional<UriRouteMatch> match = route.match(uriStr);
                 if (predicate != null) {
                     match = match.filter(predicate);
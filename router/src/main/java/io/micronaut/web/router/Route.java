@@ -111,6 +111,17 @@ public interface Route {
         return Collections.emptyList();
     }
 
+    /**
+     * Whether requests have to satisfy conditions added with {@link #where(Predicate)} to match this route.
+     * Implementations that do not track their conditions return {@code true}.
+     *
+     * @return Whether the route is conditional
+     * @since 2.5.12
+     */
+    default boolean isConditional() {
+        return true;
+    }
+
     /**
      * Accept all {@link MediaType} references.
      *
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.uri.UriMatchTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree over the literal path segments of a list of {@link UriRoute} instances. The index is used by
+ * {@link DefaultRouter} to narrow down the routes whose {@link UriMatchTemplate} needs to be evaluated for a
+ * given URI, so that only routes sharing the literal prefix of the URI are matched against their pattern.
+ *
+ * <p>The index stores positions into the list of routes it was built from, so that the routes themselves may be
+ * replaced (see {@link Router#applyDefaultPorts(List)}) as long as their templates and order stay the same.</p>
+ *
+ * @since 2.5.12
+ */
+@Internal
+final class UriRouteIndex {
+
+    private static final int[] NO_ROUTES = new int[0];
+
+    private final Node root = new Node();
+
+    /**
+     * Builds an index for the given routes.
+     *
+     * @param routes The routes, in the order they should be matched
+     */
+    UriRouteIndex(List<UriRoute> routes) {
+        for (int i = 0; i < routes.size(); i++) {
+            UriMatchTemplate template = routes.get(i).getUriMatchTemplate();
+            Node node = root;
+            for (String segment : literalSegments(template)) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.add(i);
+        }
+        root.finish();
+    }
+
+    /**
+     * Resolves the positions of the routes that could possibly match the given URI.
+     *
+     * @param uri The URI
+     * @return The positions of the candidate routes in ascending order, or {@code null} if the URI cannot be used to
+     * narrow down the candidates and all routes have to be evaluated
+     */
+    @Nullable
+    int[] candidates(String uri) {
+        int length = uri.indexOf('?');
+        if (length == -1) {
+            length = uri.length();
+        }
+        if (length == 0 || uri.charAt(0) != '/') {
+            return null;
+        }
+        int[] single = root.routes;
+        List<int[]> collected = null;
+        int total = single.length;
+        Node node = root;
+        int start = 1;
+        while (start <= length) {
+            int end = uri.indexOf('/', start);
+            if (end == -1 || end > length) {
+                end = length;
+            }
+            node = node.children.get(uri.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            int[] routes = node.routes;
+            if (routes.length > 0) {
+                if (total == 0) {
+                    single = routes;
+                } else {
+                    if (collected == null) {
+                        collected = new ArrayList<>(4);
+                        collected.add(single);
+                    }
+                    collected.add(routes);
+                }
+                total += routes.length;
+            }
+            start = end + 1;
+        }
+        if (collected == null) {
+            return single;
+        }
+        int[] candidates = new int[total];
+        int pos = 0;
+        for (int[] routes : collected) {
+            System.arraycopy(routes, 0, candidates, pos, routes.length);
+            pos += routes.length;
+        }
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    /**
+     * Computes the path segments that any URI matched by the given template is guaranteed to start with.
+     *
+     * @param template The template
+     * @return The literal segments
+     */
+    private static List<String> literalSegments(UriMatchTemplate template) {
+        String prefix = template.getLiteralPrefix();
+        List<String> segments = new ArrayList<>();
+        if (prefix.isEmpty() || prefix.charAt(0) != '/') {
+            return segments;
+        }
+        // a literal template must be matched in full, otherwise the last segment may be completed by a variable
+        boolean literal = prefix.length() == template.toString().length();
+        int start = 1;
+        int end;
+        while ((end = prefix.indexOf('/', start)) != -1) {
+            segments.add(prefix.substring(start, end));
+            start = end + 1;
+        }
+        if (literal && start < prefix.length()) {
+            segments.add(prefix.substring(start));
+        }
+        return segments;
+    }
+
+    /**
+     * A node of the prefix tree.
+     */
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>(4);
+        int[] routes = NO_ROUTES;
+        private List<Integer> pending;
+
+        void add(int route) {
+            if (pending == null) {
+                pending = new ArrayList<>(2);
+            }
+            pending.add(route);
+        }
+
+        void finish() {
+            if (pending != null) {
+                routes = pending.stream().mapToInt(Integer::intValue).toArray();
+                pending = null;
+            }
+            for (Node child : children.values()) {
+                child.finish();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteMatch;
+
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the result of {@link Router#findAllClosest(HttpRequest)} keyed by the HTTP method, path, server port,
+ * {@code Content-Type} and {@code Accept} headers of the request. Only results that consist of a single route
+ * without path variables are cached, since the match for such a route is the same for every request with the same
+ * path. Requests for a path with any {@link io.micronaut.web.router.Route#isConditional() conditional} route are
+ * never cached, since the conditions may depend on any state of the request.
+ *
+ * @since 2.5.12
+ */
+@Singleton
+@Requires(beans = RouteMatchCacheConfiguration.class)
+public class RouteMatchCache {
+
+    private final Map<RouteMatchKey, List<UriRouteMatch<Object, Object>>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param configuration The cache configuration
+     */
+    public RouteMatchCache(RouteMatchCacheConfiguration configuration) {
+        this.cache = new ConcurrentLinkedHashMap.Builder<RouteMatchKey, List<UriRouteMatch<Object, Object>>>()
+                .maximumWeightedCapacity(configuration.getMaximumSize())
+                .build();
+    }
+
+    /**
+     * Finds the closest routes for the given request, consulting the cache first.
+     *
+     * @param router  The router to resolve the routes with on a cache miss
+     * @param request The request
+     * @param <T>     The target type
+     * @param <R>     The return type
+     * @return The closest routes
+     * @see Router#findAllClosest(HttpRequest)
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public <T, R> List<UriRouteMatch<T, R>> findAllClosest(@NonNull Router router, @NonNull HttpRequest<?> request) {
+        RouteMatchKey key = new RouteMatchKey(request);
+        List<UriRouteMatch<Object, Object>> cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return (List) cached;
+        }
+        misses.increment();
+        List<UriRouteMatch<Object, Object>> routes = router.findAllClosest(request);
+        if (routes.size() == 1 &&
+                routes.get(0).getRoute().getUriMatchTemplate().getPathVariableSegmentCount() == 0 &&
+                router.find(request, request.getPath()).noneMatch(match -> match.getRoute().isConditional())) {
+            cache.put(key, routes);
+        }
+        return (List) routes;
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return The number of cached entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to be resolved by the router
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * The cache key.
+     */
+    private static final class RouteMatchKey {
+        private final String method;
+        private final String path;
+        private final int port;
+        private final String contentType;
+        private final List<String> accept;
+        private final int hashCode;
+
+        RouteMatchKey(HttpRequest<?> request) {
+            HttpHeaders headers = request.getHeaders();
+            this.method = request.getMethodName();
+            this.path = request.getPath();
+            this.port = request.getServerAddress().getPort();
+            this.contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+            this.accept = headers.getAll(HttpHeaders.ACCEPT);
+            this.hashCode = Objects.hash(method, path, port, contentType, accept);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RouteMatchKey that = (RouteMatchKey) o;
+            return port == that.port &&
+                    method.equals(that.method) &&
+                    path.equals(that.path) &&
+                    Objects.equals(contentType, that.contentType) &&
+                    accept.equals(that.accept);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.Toggleable;
+
+import static io.micronaut.web.router.cache.RouteMatchCacheConfiguration.PREFIX;
+
+/**
+ * Configuration for the {@link RouteMatchCache}.
+ *
+ * @since 2.5.12
+ */
+@ConfigurationProperties(PREFIX)
+@Requires(property = PREFIX + ".enabled", value = StringUtils.TRUE)
+public class RouteMatchCacheConfiguration implements Toggleable {
+
+    /**
+     * The configuration property.
+     */
+    public static final String PREFIX = "micronaut.router.cache";
+
+    /**
+     * The default maximum size.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final boolean DEFAULT_ENABLED = false;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * @return {@code true} if the resolved routes should be cached
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the resolved routes should be cached. Only routes without path variables are cached and the
+     * cache assumes that routes are selected solely by the HTTP method, path, port, {@code Content-Type} and
+     * {@code Accept} headers of a request. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if the cache should be enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The maximum number of entries in the cache
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries in the cache. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+     *
+     * @param maximumSize The maximum size
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
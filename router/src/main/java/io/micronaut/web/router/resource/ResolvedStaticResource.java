@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router.resource;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.net.URL;
+
+/**
+ * A static resource resolved by the {@link StaticResourceResolver} together with the cache configuration of the
+ * mapping that resolved it.
+ *
+ * @since 2.5.12
+ */
+public final class ResolvedStaticResource {
+
+    private final URL url;
+    private final StaticResourceConfiguration.CacheConfiguration cache;
+
+    /**
+     * @param url   The URL of the resource
+     * @param cache The cache configuration of the mapping if caching is enabled
+     */
+    ResolvedStaticResource(URL url, @Nullable StaticResourceConfiguration.CacheConfiguration cache) {
+        this.url = url;
+        this.cache = cache;
+    }
+
+    /**
+     * @return The URL of the resource
+     */
+    @NonNull
+    public URL getUrl() {
+        return url;
+    }
+
+    /**
+     * @return The cache configuration of the mapping that resolved the resource or {@code null} if caching is
+     * disabled for the mapping
+     */
+    @Nullable
+    public StaticResourceConfiguration.CacheConfiguration getCache() {
+        return cache;
+    }
+}
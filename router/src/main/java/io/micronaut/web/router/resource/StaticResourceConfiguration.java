@@ -15,6 +15,7 @@
  */
 package io.micronaut.web.router.resource;
 
+import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.io.ResourceLoader;
@@ -25,6 +26,7 @@ import io.micronaut.core.util.Toggleable;
 import io.micronaut.http.context.ServerContextPathProvider;
 
 import io.micronaut.core.annotation.Nullable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -59,6 +61,7 @@ public class StaticResourceConfiguration implements Toggleable {
     private boolean enabled = DEFAULT_ENABLED;
     private List<String> paths = Collections.emptyList();
     private String mapping = DEFAULT_MAPPING;
+    private CacheConfiguration cache = new CacheConfiguration();
 
     private final ResourceResolver resourceResolver;
     private final ServerContextPathProvider contextPathProvider;
@@ -146,4 +149,153 @@ public class StaticResourceConfiguration implements Toggleable {
             }
         }
     }
+
+    /**
+     * @return The cache configuration
+     * @since 2.5.12
+     */
+    public CacheConfiguration getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the cache configuration.
+     *
+     * @param cache The cache configuration
+     * @since 2.5.12
+     */
+    public void setCache(CacheConfiguration cache) {
+        if (cache != null) {
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * Configuration for caching the resources of a mapping. Resources from the file system are checked for
+     * modifications at most once per {@link #getModificationCheckInterval() modification check interval}, other
+     * resources are assumed not to change while the application is running.
+     *
+     * @since 2.5.12
+     */
+    @ConfigurationProperties("cache")
+    public static class CacheConfiguration implements Toggleable {
+
+        /**
+         * The default maximum number of resolved paths.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+        /**
+         * The default maximum size in bytes of a resource held in memory.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_MAXIMUM_FILE_SIZE = 64 * 1024;
+
+        /**
+         * The default maximum number of bytes held in memory.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final long DEFAULT_MAXIMUM_MEMORY_SIZE = 16 * 1024 * 1024;
+
+        /**
+         * The default interval between two checks for modifications of a file.
+         */
+        @SuppressWarnings("WeakerAccess")
+        public static final Duration DEFAULT_MODIFICATION_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+        private static final boolean DEFAULT_ENABLED = false;
+
+        private boolean enabled = DEFAULT_ENABLED;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long maximumFileSize = DEFAULT_MAXIMUM_FILE_SIZE;
+        private long maximumMemorySize = DEFAULT_MAXIMUM_MEMORY_SIZE;
+        private Duration modificationCheckInterval = DEFAULT_MODIFICATION_CHECK_INTERVAL;
+
+        /**
+         * @return {@code true} if the resources of the mapping should be cached
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether resolved resources and their contents are cached. Default value ({@value #DEFAULT_ENABLED}).
+         *
+         * @param enabled True if the cache should be enabled
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return The maximum number of resolved paths to remember
+         */
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        /**
+         * Sets the maximum number of resolved request paths to remember. Default value ({@value #DEFAULT_MAXIMUM_SIZE}).
+         *
+         * @param maximumSize The maximum size
+         */
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * @return The maximum size in bytes of a resource held in memory
+         */
+        public long getMaximumFileSize() {
+            return maximumFileSize;
+        }
+
+        /**
+         * Sets the maximum size in bytes of a resource whose content is held in memory. Larger resources are read
+         * for every request. Default value ({@value #DEFAULT_MAXIMUM_FILE_SIZE}).
+         *
+         * @param maximumFileSize The maximum file size
+         */
+        public void setMaximumFileSize(long maximumFileSize) {
+            this.maximumFileSize = maximumFileSize;
+        }
+
+        /**
+         * @return The maximum number of bytes held in memory
+         */
+        public long getMaximumMemorySize() {
+            return maximumMemorySize;
+        }
+
+        /**
+         * Sets the maximum number of bytes held in memory for the resources of the mapping, including compressed
+         * variants. The least recently used resources are evicted first. Default value
+         * ({@value #DEFAULT_MAXIMUM_MEMORY_SIZE}).
+         *
+         * @param maximumMemorySize The maximum memory size
+         */
+        public void setMaximumMemorySize(long maximumMemorySize) {
+            this.maximumMemorySize = maximumMemorySize;
+        }
+
+        /**
+         * @return The interval between two checks for modifications of a file
+         */
+        public Duration getModificationCheckInterval() {
+            return modificationCheckInterval;
+        }
+
+        /**
+         * Sets the interval between two checks whether a cached file was modified. Requests within the interval are
+         * answered from memory without touching the file system. A zero interval checks the file on every request,
+         * and a negative interval never checks it. Default value (5 seconds).
+         *
+         * @param modificationCheckInterval The modification check interval
+         */
+        public void setModificationCheckInterval(Duration modificationCheckInterval) {
+            this.modificationCheckInterval = modificationCheckInterval != null ? modificationCheckInterval : DEFAULT_MODIFICATION_CHECK_INTERVAL;
+        }
+    }
 }
@@ -20,16 +20,20 @@ import io.micronaut.core.util.AntPathMatcher;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.PathMatcher;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 
 import javax.inject.Singleton;
 import java.net.URL;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 /**
- * Resolves resources from a set of resource loaders.
+ * Resolves resources from a set of resource loaders. Paths resolved by a mapping with an enabled
+ * {@link StaticResourceConfiguration#getCache() cache} are remembered, so subsequent requests skip the path matching
+ * and the resource loaders.
  *
  * @author James Kleeh
  * @since 1.0
@@ -40,6 +44,8 @@ public class StaticResourceResolver {
     private static final String INDEX_PAGE = "index.html";
     private final AntPathMatcher pathMatcher;
     private final Map<String, List<ResourceLoader>> resourceMappings = new LinkedHashMap<>();
+    private final Map<String, StaticResourceConfiguration.CacheConfiguration> cacheConfigurations = new HashMap<>();
+    private final Map<String, ResolvedStaticResource> resolvedResources;
 
     /**
      * Default constructor.
@@ -48,13 +54,26 @@ public class StaticResourceResolver {
      */
     StaticResourceResolver(List<StaticResourceConfiguration> configurations) {
         this.pathMatcher = PathMatcher.ANT;
+        long cacheSize = 0;
         if (CollectionUtils.isNotEmpty(configurations)) {
             for (StaticResourceConfiguration config: configurations) {
                 if (config.isEnabled()) {
                     this.resourceMappings.put(config.getMapping(), config.getResourceLoaders());
+                    StaticResourceConfiguration.CacheConfiguration cache = config.getCache();
+                    if (cache.isEnabled()) {
+                        this.cacheConfigurations.put(config.getMapping(), cache);
+                        cacheSize += cache.getMaximumSize();
+                    }
                 }
             }
         }
+        if (cacheSize > 0) {
+            this.resolvedResources = new ConcurrentLinkedHashMap.Builder<String, ResolvedStaticResource>()
+                    .maximumWeightedCapacity(cacheSize)
+                    .build();
+        } else {
+            this.resolvedResources = null;
+        }
     }
 
     /**
@@ -64,6 +83,23 @@ public class StaticResourceResolver {
      * @return The optional URL
      */
     public Optional<URL> resolve(String resourcePath) {
+        return resolveResource(resourcePath).map(ResolvedStaticResource::getUrl);
+    }
+
+    /**
+     * Resolves a path to a resource together with the cache configuration of the mapping that resolved it.
+     *
+     * @param resourcePath The path to the resource
+     * @return The optional resource
+     * @since 2.5.12
+     */
+    public Optional<ResolvedStaticResource> resolveResource(String resourcePath) {
+        if (resolvedResources != null) {
+            ResolvedStaticResource resolved = resolvedResources.get(resourcePath);
+            if (resolved != null) {
+                return Optional.of(resolved);
+            }
+        }
         for (Map.Entry<String, List<ResourceLoader>> entry : resourceMappings.entrySet()) {
             List<ResourceLoader> loaders = entry.getValue();
             String mapping = entry.getKey();
@@ -79,7 +115,7 @@ public class StaticResourceResolver {
                 for (ResourceLoader loader : loaders) {
                     Optional<URL> resource = loader.getResource(path);
                     if (resource.isPresent()) {
-                        return resource;
+                        return Optional.of(resolved(resourcePath, mapping, resource.get()));
                     } else {
                         if (path.indexOf('.') == -1) {
                             if (!path.endsWith("/")) {
@@ -88,7 +124,7 @@ public class StaticResourceResolver {
                             path += INDEX_PAGE;
                             resource = loader.getResource(path);
                             if (resource.isPresent()) {
-                                return resource;
+                                return Optional.of(resolved(resourcePath, mapping, resource.get()));
                             }
                         }
                     }
@@ -98,4 +134,13 @@ public class StaticResourceResolver {
 
         return Optional.empty();
     }
+
+    private ResolvedStaticResource resolved(String resourcePath, String mapping, URL url) {
+        StaticResourceConfiguration.CacheConfiguration cache = cacheConfigurations.get(mapping);
+        ResolvedStaticResource resolved = new ResolvedStaticResource(url, cache);
+        if (cache != null) {
+            resolvedResources.put(resourcePath, resolved);
+        }
+        return resolved;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2020 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.web.router
+
+import io.micronaut.http.uri.UriMatchTemplate
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class UriRouteIndexSpec extends Specification {
+
+    @Shared
+    List<String> templates = [
+            '/',
+            '/{?max}',
+            '/books',
+            '/books/',
+            '/books/{id}',
+            '/books/{id}/authors',
+            '/books/{id:[0-9]+}/reviews{/reviewId}',
+            '/books{.format}',
+            '/book',
+            '/book/list',
+            '/authors/{+path}',
+            '/authors/{name}/books/{id}',
+            '/static/files/{name}',
+            '/{name}',
+            '/{name}/list',
+            'relative/{id}',
+    ]
+
+    @Unroll
+    void "test the index yields the same matches as a full scan for #uri"() {
+        given:
+        List<UriRoute> routes = templates.collect { String t ->
+            UriMatchTemplate template = UriMatchTemplate.of(t)
+            Stub(UriRoute) {
+                getUriMatchTemplate() >> template
+            }
+        }
+        UriRouteIndex index = new UriRouteIndex(routes)
+
+        when:
+        List<String> expected = templates.findAll { UriMatchTemplate.of(it).match(uri).isPresent() }
+        int[] candidates = index.candidates(uri)
+        List<String> actual = (candidates == null ? (0..<templates.size()) : candidates.toList())
+                .collect { templates[it] }
+                .findAll { UriMatchTemplate.of(it).match(uri).isPresent() }
+
+        then:
+        actual == expected
+
+        where:
+        uri << [
+                '',
+                '/',
+                '/?max=10',
+                '/books',
+                '/books/',
+                '/books?max=10',
+                '/books.json',
+                '/books/1',
+                '/books/1/',
+                '/books/1/authors',
+                '/books/1/reviews',
+                '/books/1/reviews/2',
+                '/book',
+                '/book/list',
+                '/book/list/',
+                '/boo',
+                '/authors/a/b/c',
+                '/authors/fred/books/1',
+                '/static/files/logo.png',
+                '/unknown',
+                '/unknown/list',
+                'relative/1'
+        ]
+    }
+
+    void "test the index narrows down the candidates by literal segments"() {
+        given:
+        List<String> paths = (0..<100).collect { "/resource$it/items/{id}".toString() }
+        List<UriRoute> routes = paths.collect { String t ->
+            UriMatchTemplate template = UriMatchTemplate.of(t)
+            Stub(UriRoute) {
+                getUriMatchTemplate() >> template
+            }
+        }
+        UriRouteIndex index = new UriRouteIndex(routes)
+
+        expect:
+        index.candidates('/resource42/items/1') == [42] as int[]
+        index.candidates('/resource42/other') == [] as int[]
+        index.candidates('/missing') == [] as int[]
+    }
+}
@@ -22,17 +22,23 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import io.micronaut.context.BeanProvider;
 import io.micronaut.core.io.buffer.ByteBuffer;
 import io.micronaut.core.io.buffer.ByteBufferFactory;
+import io.micronaut.core.io.buffer.ReferenceCounted;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.codec.CodecConfiguration;
 import io.micronaut.http.codec.CodecException;
@@ -51,11 +57,19 @@ import javax.inject.Provider;
  */
 public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
 
+    private static final int MAXIMUM_CACHED_TYPES = 250;
+
     protected final ApplicationConfiguration applicationConfiguration;
     protected final List<MediaType> additionalTypes;
     protected final CodecConfiguration codecConfiguration;
     protected final MediaType mediaType;
     private final BeanProvider<ObjectMapper> objectMapperProvider;
+    private final Map<ArgumentKey, ObjectReader> readers = new ConcurrentLinkedHashMap.Builder<ArgumentKey, ObjectReader>()
+            .maximumWeightedCapacity(MAXIMUM_CACHED_TYPES)
+            .build();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentLinkedHashMap.Builder<Class<?>, ObjectWriter>()
+            .maximumWeightedCapacity(MAXIMUM_CACHED_TYPES)
+            .build();
     private ObjectMapper objectMapper;
 
     /**
@@ -150,12 +164,7 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
     @Override
     public <T> T decode(Argument<T> type, InputStream inputStream) throws CodecException {
         try {
-            if (type.hasTypeVariables()) {
-                JavaType javaType = constructJavaType(type);
-                return getObjectMapper().readValue(inputStream, javaType);
-            } else {
-                return getObjectMapper().readValue(inputStream, type.getType());
-            }
+            return reader(type).readValue(inputStream);
         } catch (IOException e) {
             throw new CodecException("Error decoding JSON stream for type [" + type.getName() + "]: " + e.getMessage(), e);
         }
@@ -183,12 +192,13 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
         try {
             if (CharSequence.class.isAssignableFrom(type.getType())) {
                 return (T) buffer.toString(applicationConfiguration.getDefaultCharset());
-            } else if (type.hasTypeVariables()) {
-                JavaType javaType = constructJavaType(type);
-                return getObjectMapper().readValue(buffer.toByteArray(), javaType);
-            } else {
-                return getObjectMapper().readValue(buffer.toByteArray(), type.getType());
             }
+            // read the readable bytes in place, without copying the content or moving the reader index
+            java.nio.ByteBuffer nioBuffer = buffer.asNioBuffer();
+            if (nioBuffer.hasArray()) {
+                return reader(type).readValue(nioBuffer.array(), nioBuffer.arrayOffset() + nioBuffer.position(), nioBuffer.remaining());
+            }
+            return reader(type).readValue(new NioBufferInputStream(nioBuffer));
         } catch (IOException e) {
             throw new CodecException("Error decoding stream for type [" + type.getType() + "]: " + e.getMessage(), e);
         }
@@ -199,11 +209,8 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
         try {
             if (CharSequence.class.isAssignableFrom(type.getType())) {
                 return (T) new String(bytes, applicationConfiguration.getDefaultCharset());
-            } else if (type.hasTypeVariables()) {
-                JavaType javaType = constructJavaType(type);
-                return getObjectMapper().readValue(bytes, javaType);
             } else {
-                return getObjectMapper().readValue(bytes, type.getType());
+                return reader(type).readValue(bytes);
             }
         } catch (IOException e) {
             throw new CodecException("Error decoding stream for type [" + type.getType() + "]: " + e.getMessage(), e);
@@ -214,12 +221,7 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
     @Override
     public <T> T decode(Argument<T> type, String data) throws CodecException {
         try {
-            if (type.hasTypeVariables()) {
-                JavaType javaType = constructJavaType(type);
-                return getObjectMapper().readValue(data, javaType);
-            } else {
-                return getObjectMapper().readValue(data, type.getType());
-            }
+            return reader(type).readValue(data);
         } catch (IOException e) {
             throw new CodecException("Error decoding JSON stream for type [" + type.getName() + "]: " + e.getMessage(), e);
         }
@@ -228,7 +230,24 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
     @Override
     public <T> void encode(T object, OutputStream outputStream) throws CodecException {
         try {
-            getObjectMapper().writeValue(outputStream, object);
+            writer(object).writeValue(outputStream, object);
+        } catch (IOException e) {
+            throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes an object into a generator, so that several objects can share the generator and its buffers.
+     *
+     * @param object    The object to encode
+     * @param generator The generator to write to
+     * @param <T>       The generic type
+     * @throws CodecException When the object cannot be encoded
+     * @since 2.5.12
+     */
+    public <T> void encode(T object, JsonGenerator generator) throws CodecException {
+        try {
+            writer(object).writeValue(generator, object);
         } catch (IOException e) {
             throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage(), e);
         }
@@ -240,7 +259,7 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
             if (object instanceof byte[]) {
                 return (byte[]) object;
             } else {
-                return getObjectMapper().writeValueAsBytes(object);
+                return writer(object).writeValueAsBytes(object);
             }
         } catch (JsonProcessingException e) {
             throw new CodecException("Error encoding object [" + object + "] to JSON: " + e.getMessage(), e);
@@ -254,7 +273,14 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
         }
         ByteBuffer<B> buffer = allocator.buffer();
         OutputStream outputStream = buffer.toOutputStream();
-        encode(object, outputStream);
+        try {
+            encode(object, outputStream);
+        } catch (CodecException e) {
+            if (buffer instanceof ReferenceCounted) {
+                ((ReferenceCounted) buffer).release();
+            }
+            throw e;
+        }
         return buffer;
     }
 
@@ -263,4 +289,109 @@ public abstract class JacksonMediaTypeCodec implements MediaTypeCodec {
         return JacksonConfiguration.constructType(type, typeFactory);
     }
 
+    /**
+     * @param type The type to read
+     * @return The cached reader for the type
+     */
+    private ObjectReader reader(Argument<?> type) {
+        ArgumentKey key = new ArgumentKey(type);
+        ObjectReader reader = readers.get(key);
+        if (reader == null) {
+            JavaType javaType = type.hasTypeVariables() ? constructJavaType(type) : getObjectMapper().constructType(type.getType());
+            reader = getObjectMapper().readerFor(javaType);
+            readers.putIfAbsent(key, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * @param object The object to write
+     * @return The cached writer for the runtime type of the object
+     */
+    private ObjectWriter writer(Object object) {
+        if (object == null) {
+            return getObjectMapper().writer();
+        }
+        Class<?> type = object.getClass();
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = getObjectMapper().writerFor(type);
+            writers.putIfAbsent(type, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Compares arguments by type and type variables, ignoring the argument name.
+     */
+    private static final class ArgumentKey {
+
+        private final Argument<?> argument;
+        private final int hashCode;
+
+        /**
+         * @param argument The argument
+         */
+        ArgumentKey(Argument<?> argument) {
+            this.argument = argument;
+            this.hashCode = argument.typeHashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArgumentKey && argument.equalsType(((ArgumentKey) o).argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a NIO buffer, which lets Jackson parse direct buffers in chunks instead of
+     * copying the whole content onto the heap first.
+     */
+    private static final class NioBufferInputStream extends InputStream {
+
+        private final java.nio.ByteBuffer buffer;
+
+        /**
+         * @param buffer The buffer to read
+         */
+        NioBufferInputStream(java.nio.ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
 }
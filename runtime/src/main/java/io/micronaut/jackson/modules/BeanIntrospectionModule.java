@@ -640,9 +640,11 @@ public class BeanIntrospectionModule extends SimpleModule {
         protected final Class<?>[] _views;
         final BeanProperty<Object, Object> beanProperty;
         final SerializableString fastName;
+        private final PropertyName fullName;
         private final JavaType type;
-        private final boolean shouldSuppressNulls;
+        private final boolean suppressNulls;
         private final boolean unwrapping;
+        private UnwrappingSerializer unwrappingSerializer;
 
         BeanIntrospectionPropertyWriter(BeanPropertyWriter src,
                                         BeanProperty<Object, Object> introspection,
@@ -663,11 +665,12 @@ public class BeanIntrospectionModule extends SimpleModule {
             _serializer = (ser != null) ? ser : src.getSerializer();
             beanProperty = introspection;
             fastName = name;
+            fullName = new PropertyName(name.getValue());
             _views = views;
             this.type = JacksonConfiguration.constructType(beanProperty.asArgument(), typeFactory);
             _dynamicSerializers = (ser == null) ? PropertySerializerMap
                     .emptyForProperties() : null;
-            shouldSuppressNulls = shouldSuppressNulls(_suppressNulls);
+            suppressNulls = shouldSuppressNulls(_suppressNulls) || _suppressNulls;
             this.unwrapping = introspection.hasAnnotation(JsonUnwrapped.class);
         }
 
@@ -677,11 +680,12 @@ public class BeanIntrospectionModule extends SimpleModule {
                 TypeFactory typeFactory) {
             beanProperty = introspection;
             fastName = new SerializedString(name);
+            fullName = new PropertyName(name);
             _views = null;
             this.type = JacksonConfiguration.constructType(beanProperty.asArgument(), typeFactory);
             _dynamicSerializers = PropertySerializerMap
                     .emptyForProperties();
-            shouldSuppressNulls = shouldSuppressNulls(_suppressNulls);
+            suppressNulls = shouldSuppressNulls(_suppressNulls) || _suppressNulls;
             this.unwrapping = introspection.hasAnnotation(JsonUnwrapped.class);
         }
 
@@ -697,12 +701,12 @@ public class BeanIntrospectionModule extends SimpleModule {
 
         @Override
         public boolean willSuppressNulls() {
-            return shouldSuppressNulls || super.willSuppressNulls();
+            return suppressNulls;
         }
 
         @Override
         public PropertyName getFullName() {
-            return new PropertyName(getName());
+            return fullName;
         }
 
         @Override
@@ -715,8 +719,12 @@ public class BeanIntrospectionModule extends SimpleModule {
             return type;
         }
 
-        private boolean inView(Class<?> activeView) {
-            if (activeView == null || _views == null) {
+        private boolean inView(SerializerProvider prov) {
+            if (_views == null) {
+                return true;
+            }
+            final Class<?> activeView = prov.getActiveView();
+            if (activeView == null) {
                 return true;
             }
             final int len = _views.length;
@@ -728,6 +736,22 @@ public class BeanIntrospectionModule extends SimpleModule {
             return false;
         }
 
+        /**
+         * Returns the unwrapping variant of a value serializer, reusing the last one created since a new instance
+         * would otherwise be created for every serialized value.
+         *
+         * @param ser The value serializer
+         * @return The unwrapping serializer
+         */
+        private JsonSerializer<Object> unwrappingSerializer(JsonSerializer<Object> ser) {
+            UnwrappingSerializer cached = unwrappingSerializer;
+            if (cached == null || cached.source != ser) {
+                cached = new UnwrappingSerializer(ser, ser.unwrappingSerializer(null));
+                unwrappingSerializer = cached;
+            }
+            return cached.unwrapping;
+        }
+
         /**
          * @see <a href="https://github.com/micronaut-projects/micronaut-core/issues/2933">Issue 2933</a>
          */
@@ -753,7 +777,7 @@ public class BeanIntrospectionModule extends SimpleModule {
 
         @Override
         public final void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
-            if (!inView(prov.getActiveView())) {
+            if (!inView(prov)) {
                 serializeAsOmittedField(bean, gen, prov);
                 return;
             }
@@ -762,7 +786,7 @@ public class BeanIntrospectionModule extends SimpleModule {
             if (value == null) {
                 boolean willSuppressNulls = willSuppressNulls();
                 if (!willSuppressNulls && _nullSerializer != null) {
-                    if (!isUnwrapping()) {
+                    if (!unwrapping) {
                         gen.writeFieldName(fastName);
                         _nullSerializer.serialize(null, gen, prov);
                     }
@@ -794,9 +818,8 @@ public class BeanIntrospectionModule extends SimpleModule {
                 // three choices: exception; handled by call; or pass-through
                 return;
             }
-            if (isUnwrapping()) {
-                JsonSerializer<Object> unwrappingSerializer = ser.unwrappingSerializer(null);
-                unwrappingSerializer.serialize(value, gen, prov);
+            if (unwrapping) {
+                unwrappingSerializer(ser).serialize(value, gen, prov);
             } else {
                 gen.writeFieldName(fastName);
                 if (_typeSerializer == null) {
@@ -809,7 +832,7 @@ public class BeanIntrospectionModule extends SimpleModule {
 
         @Override
         public final void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
-            if (!inView(prov.getActiveView())) {
+            if (!inView(prov)) {
                 serializeAsOmittedField(bean, gen, prov);
                 return;
             }
@@ -860,6 +883,19 @@ public class BeanIntrospectionModule extends SimpleModule {
 
     }
 
+    /**
+     * A value serializer together with its unwrapping variant.
+     */
+    private static final class UnwrappingSerializer {
+        final JsonSerializer<Object> source;
+        final JsonSerializer<Object> unwrapping;
+
+        UnwrappingSerializer(JsonSerializer<Object> source, JsonSerializer<Object> unwrapping) {
+            this.source = source;
+            this.unwrapping = unwrapping;
+        }
+    }
+
     /**
      * A bean introspection setter.
      */
@@ -16,8 +16,13 @@
 package io.micronaut.jackson.codec
 
 import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.buffer.ByteBuffer
+import io.micronaut.core.type.Argument
 import io.micronaut.http.MediaType
 import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
 
 class JsonMediaTypeCodecSpec extends Specification {
 
@@ -38,4 +43,59 @@ class JsonMediaTypeCodecSpec extends Specification {
         cleanup:
         ctx.close()
     }
+
+    @Unroll
+    void "test decode reads the readable bytes of a #description buffer"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run()
+        JsonMediaTypeCodec codec = ctx.getBean(JsonMediaTypeCodec)
+        byte[] json = '{"name":"Fred"}'.getBytes(StandardCharsets.UTF_8)
+        java.nio.ByteBuffer nioBuffer = direct ? java.nio.ByteBuffer.allocateDirect(json.length + 4) : java.nio.ByteBuffer.allocate(json.length + 4)
+        nioBuffer.put("xx".getBytes(StandardCharsets.UTF_8)).put(json).flip().position(2)
+        ByteBuffer buffer = Stub(ByteBuffer) {
+            asNioBuffer() >> { nioBuffer.slice().limit(json.length) }
+        }
+
+        when:
+        Map<String, String> first = codec.decode(Argument.mapOf(String, String), buffer)
+        Map<String, String> second = codec.decode(Argument.mapOf(String, String), buffer)
+
+        then:
+        first == [name: 'Fred']
+        second == [name: 'Fred']
+
+        cleanup:
+        ctx.close()
+
+        where:
+        direct | description
+        true   | 'direct'
+        false  | 'heap'
+    }
+
+    void "test decode distinguishes arguments by their type variables"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run()
+        JsonMediaTypeCodec codec = ctx.getBean(JsonMediaTypeCodec)
+        String json = '[{"name":"Fred"}]'
+
+        when:
+        List<Book> books = codec.decode(Argument.listOf(Book), json)
+        List<Book> namedBooks = codec.decode(Argument.of(List, "books", Argument.of(Book)), json)
+        List<Map<String, String>> maps = codec.decode(Argument.listOf(Argument.mapOf(String, String)), json)
+
+        then:
+        books[0] instanceof Book
+        books[0].name == 'Fred'
+        namedBooks[0] instanceof Book
+        maps[0] instanceof Map
+        maps[0].name == 'Fred'
+
+        cleanup:
+        ctx.close()
+    }
+
+    static class Book {
+        String name
+    }
 }
@@ -0,0 +1,89 @@
+package io.micronaut.http.client.http2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.RxHttpClient
+import io.micronaut.http.netty.channel.ChannelPipelineCustomizer
+import io.micronaut.http.server.netty.NettyHttpRequest
+import io.micronaut.runtime.server.EmbeddedServer
+import io.netty.buffer.Unpooled
+import io.netty.channel.Channel
+import io.netty.channel.ChannelHandlerContext
+import io.netty.channel.ChannelPipeline
+import io.netty.handler.codec.http2.Http2ConnectionHandler
+import io.netty.handler.codec.http2.Http2Error
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class Http2GoAwaySpec extends Specification {
+
+    @Shared @AutoCleanup EmbeddedServer server = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'Http2GoAwaySpec',
+            'micronaut.ssl.enabled': true,
+            'micronaut.server.http-version': '2.0',
+            'micronaut.http.client.http-version': '2.0',
+            'micronaut.http.client.pool.enabled': true,
+            'micronaut.ssl.buildSelfSigned': true,
+            'micronaut.ssl.port': -1
+    ])
+
+    void "test a pooled connection that received a GOAWAY is not used for the next request"() {
+        given:
+        RxHttpClient client = server.applicationContext.createBean(RxHttpClient, server.URL)
+        GoAwayController controller = server.applicationContext.getBean(GoAwayController)
+        List<Http2ConnectionHandler> clientConnections = new CopyOnWriteArrayList<>()
+        ((ChannelPipelineCustomizer) client).doOnConnect({ ChannelPipeline pipeline ->
+            clientConnections.add(pipeline.get(Http2ConnectionHandler))
+            return pipeline
+        })
+
+        expect:
+        client.retrieve('/http2/go-away').blockingFirst() == 'Version: HTTP_2_0'
+        client.retrieve('/http2/go-away').blockingFirst() == 'Version: HTTP_2_0'
+        controller.channels.size() == 2
+        controller.channels[0] == controller.channels[1]
+        clientConnections.size() == 1
+
+        when:"the server sends a GOAWAY without closing the connection"
+        Channel serverChannel = controller.channels[0]
+        Http2ConnectionHandler connectionHandler = serverChannel.pipeline().get(Http2ConnectionHandler)
+        serverChannel.eventLoop().submit({
+            ChannelHandlerContext ctx = serverChannel.pipeline().context(connectionHandler)
+            connectionHandler.goAway(ctx, connectionHandler.connection().remote().lastStreamCreated(), Http2Error.NO_ERROR.code(), Unpooled.EMPTY_BUFFER, ctx.newPromise())
+            ctx.flush()
+        }).sync()
+        new PollingConditions(timeout: 5).eventually {
+            assert clientConnections[0].connection().goAwayReceived()
+        }
+
+        then:"the next request succeeds on a new connection"
+        client.retrieve('/http2/go-away').blockingFirst() == 'Version: HTTP_2_0'
+        controller.channels.size() == 3
+        controller.channels[2] != serverChannel
+        clientConnections.size() == 2
+
+        cleanup:
+        client.close()
+    }
+
+    @Requires(property = 'spec.name', value = 'Http2GoAwaySpec')
+    @Controller('/http2/go-away')
+    static class GoAwayController {
+
+        final List<Channel> channels = new CopyOnWriteArrayList<>()
+
+        @Get(produces = MediaType.TEXT_PLAIN)
+        String index(HttpRequest<?> request) {
+            channels.add(((NettyHttpRequest<?>) request).channelHandlerContext.channel())
+            return "Version: ${request.httpVersion}"
+        }
+    }
+}
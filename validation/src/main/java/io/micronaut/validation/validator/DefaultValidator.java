@@ -35,6 +35,7 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ArgumentValue;
 import io.micronaut.core.type.MutableArgumentValue;
@@ -66,8 +67,10 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -89,6 +92,8 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
     private final TraversableResolver traversableResolver;
     private final ExecutionHandleLocator executionHandleLocator;
     private final MessageSource messageSource;
+    private final Map<BeanIntrospection<?>, IntrospectionConstraints> introspectionConstraints = new ConcurrentHashMap<>(20);
+    private final Map<PropertyConstraintsKey, List<PropertyConstraint>> propertyConstraints = new ConcurrentHashMap<>(20);
 
     /**
      * Default constructor.
@@ -133,18 +138,9 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
         if (introspection == null) {
             throw new ValidationException("Passed object [" + object + "] cannot be introspected. Please annotate with @Introspected");
         }
-        @SuppressWarnings("unchecked")
-        final Collection<? extends BeanProperty<Object, Object>> constrainedProperties =
-                ((BeanIntrospection<Object>) introspection).getIndexedProperties(Constraint.class);
-        @SuppressWarnings("unchecked")
-        final Collection<BeanProperty<Object, Object>> cascadeProperties =
-                ((BeanIntrospection<Object>) introspection).getIndexedProperties(Valid.class);
-
-        final List<Class<? extends Annotation>> pojoConstraints = introspection.getAnnotationTypesByStereotype(Constraint.class);
+        final IntrospectionConstraints constraints = introspectionConstraints(introspection);
 
-        if (CollectionUtils.isNotEmpty(constrainedProperties)
-                || CollectionUtils.isNotEmpty(cascadeProperties)
-                || CollectionUtils.isNotEmpty(pojoConstraints)) {
+        if (constraints.isConstrained()) {
 
             DefaultConstraintValidatorContext context = new DefaultConstraintValidatorContext(object, groups);
             Set<ConstraintViolation<T>> overallViolations = new HashSet<>(5);
@@ -152,11 +148,11 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
                     introspection,
                     object,
                     object,
-                    constrainedProperties,
-                    cascadeProperties,
+                    constraints.constrainedProperties,
+                    constraints.cascadeProperties,
                     context,
                     overallViolations,
-                    pojoConstraints
+                    constraints.pojoConstraints
             );
         }
         return Collections.emptySet();
@@ -1382,17 +1378,12 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
 
     private <T> void cascadeToOneIntrospection(DefaultConstraintValidatorContext context, T rootBean, Object bean, BeanIntrospection<Object> beanIntrospection, Set overallViolations) {
         context.validatedObjects.add(bean);
-        final Collection<BeanProperty<Object, Object>> cascadeConstraints =
-                beanIntrospection.getIndexedProperties(Constraint.class);
-        final Collection<BeanProperty<Object, Object>> cascadeNestedProperties =
-                beanIntrospection.getIndexedProperties(Valid.class);
-        final List<Class<? extends Annotation>> pojoConstraints =
-            beanIntrospection.getAnnotationMetadata().getAnnotationTypesByStereotype(Constraint.class);
-
-        if (CollectionUtils.isNotEmpty(cascadeConstraints) ||
-            CollectionUtils.isNotEmpty(cascadeNestedProperties) ||
-            CollectionUtils.isNotEmpty(pojoConstraints)
-        ) {
+        final IntrospectionConstraints constraints = introspectionConstraints(beanIntrospection);
+        final Collection<BeanProperty<Object, Object>> cascadeConstraints = constraints.constrainedProperties;
+        final Collection<BeanProperty<Object, Object>> cascadeNestedProperties = constraints.cascadeProperties;
+        final List<Class<? extends Annotation>> pojoConstraints = constraints.pojoConstraints;
+
+        if (constraints.isConstrained()) {
             doValidate(
                     beanIntrospection,
                     rootBean,
@@ -1442,17 +1433,19 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
             @NonNull Class propertyType,
             @NonNull AnnotatedElement constrainedProperty,
             @Nullable Object propertyValue) {
-        final AnnotationMetadata annotationMetadata = constrainedProperty.getAnnotationMetadata();
-        final List<Class<? extends Annotation>> constraintTypes = annotationMetadata.getAnnotationTypesByStereotype(Constraint.class);
-        for (Class<? extends Annotation> constraintType : constraintTypes) {
+        final List<PropertyConstraint> constraints = propertyConstraints(constrainedProperty, propertyType, context.groups);
+        if (constraints.isEmpty()) {
+            return;
+        }
 
-            ValueExtractor<Object> valueExtractor = null;
-            if (propertyValue != null && !annotationMetadata.hasAnnotation(Valid.class)) {
-                //noinspection unchecked
-                valueExtractor = valueExtractorRegistry.findUnwrapValueExtractor((Class<Object>) propertyValue.getClass())
-                        .orElse(null);
-            }
+        ValueExtractor<Object> valueExtractor = null;
+        if (propertyValue != null && !constrainedProperty.getAnnotationMetadata().hasAnnotation(Valid.class)) {
+            //noinspection unchecked
+            valueExtractor = valueExtractorRegistry.findUnwrapValueExtractor((Class<Object>) propertyValue.getClass())
+                    .orElse(null);
+        }
 
+        for (PropertyConstraint constraint : constraints) {
             if (valueExtractor != null) {
                 valueExtractor.extractValues(propertyValue, (SimpleValueReceiver) (nodeName, extractedValue) -> valueConstraintOnProperty(
                         rootBeanClass,
@@ -1463,7 +1456,7 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
                         constrainedProperty,
                         propertyType,
                         extractedValue,
-                        constraintType
+                        constraint
                 ));
             } else {
                 valueConstraintOnProperty(
@@ -1475,12 +1468,90 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
                         constrainedProperty,
                         propertyType,
                         propertyValue,
-                        constraintType
+                        constraint
                 );
             }
         }
     }
 
+    /**
+     * @param introspection The introspection
+     * @return The constrained and cascaded properties and the type level constraints of the introspection
+     */
+    @SuppressWarnings("unchecked")
+    private IntrospectionConstraints introspectionConstraints(BeanIntrospection<?> introspection) {
+        IntrospectionConstraints constraints = introspectionConstraints.get(introspection);
+        if (constraints == null) {
+            final BeanIntrospection<Object> beanIntrospection = (BeanIntrospection<Object>) introspection;
+            constraints = new IntrospectionConstraints(
+                    beanIntrospection.getIndexedProperties(Constraint.class),
+                    beanIntrospection.getIndexedProperties(Valid.class),
+                    beanIntrospection.getAnnotationMetadata().getAnnotationTypesByStereotype(Constraint.class)
+            );
+            introspectionConstraints.put(introspection, constraints);
+        }
+        return constraints;
+    }
+
+    /**
+     * Resolves the constraints of an element that apply to the given groups. The result is cached for the properties
+     * of introspections by declaring type, property type and name, together with the validators for values of the
+     * property type if that type cannot be subclassed.
+     *
+     * @param constrainedProperty The element
+     * @param propertyType        The type of the element
+     * @param groups              The groups
+     * @return The constraints by constraint type, without the types that have no constraint in the groups
+     */
+    private List<PropertyConstraint> propertyConstraints(AnnotatedElement constrainedProperty, Class<?> propertyType, List<Class> groups) {
+        if (!(constrainedProperty instanceof BeanProperty)) {
+            return resolvePropertyConstraints(constrainedProperty.getAnnotationMetadata(), null, groups);
+        }
+        final BeanProperty<?, ?> beanProperty = (BeanProperty<?, ?>) constrainedProperty;
+        final PropertyConstraintsKey key = new PropertyConstraintsKey(beanProperty, groups);
+        List<PropertyConstraint> constraints = propertyConstraints.get(key);
+        if (constraints == null) {
+            final Class<?> valueType = propertyType.isPrimitive() || (!propertyType.isArray() && Modifier.isFinal(propertyType.getModifiers()))
+                    ? ReflectionUtils.getWrapperType(propertyType) : null;
+            constraints = resolvePropertyConstraints(constrainedProperty.getAnnotationMetadata(), valueType, groups);
+            // the groups may be backed by an array of the caller
+            propertyConstraints.put(new PropertyConstraintsKey(beanProperty, new ArrayList<>(groups)), constraints);
+        }
+        return constraints;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PropertyConstraint> resolvePropertyConstraints(AnnotationMetadata annotationMetadata, @Nullable Class<?> valueType, List<Class> groups) {
+        final List<Class<? extends Annotation>> constraintTypes = annotationMetadata.getAnnotationTypesByStereotype(Constraint.class);
+        final List<PropertyConstraint> constraints = new ArrayList<>(constraintTypes.size());
+        for (Class<? extends Annotation> constraintType : constraintTypes) {
+            final List<? extends AnnotationValue<? extends Annotation>> annotationValues = annotationMetadata
+                    .getAnnotationValuesByType(constraintType);
+            Set<AnnotationValue<? extends Annotation>> values = new LinkedHashSet<>(3);
+            for (Class<?> group : groups) {
+                for (AnnotationValue<? extends Annotation> annotationValue : annotationValues) {
+                    final Class<?>[] classValues = annotationValue.classValues("groups");
+                    if (ArrayUtils.isEmpty(classValues)) {
+                        if (groups == DEFAULT_GROUPS || group == Default.class) {
+                            values.add(annotationValue);
+                        }
+                    } else {
+                        final List<Class> constraintGroups = Arrays.asList(classValues);
+                        if (constraintGroups.contains(group)) {
+                            values.add(annotationValue);
+                        }
+                    }
+                }
+            }
+            if (!values.isEmpty()) {
+                final ConstraintValidator<? extends Annotation, Object> validator = valueType != null ? constraintValidatorRegistry
+                        .findConstraintValidator(constraintType, (Class<Object>) valueType).orElse(null) : null;
+                constraints.add(new PropertyConstraint(constraintType, new ArrayList<>(values), valueType, validator));
+            }
+        }
+        return constraints.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(constraints);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void valueConstraintOnProperty(
             @Nullable Class<T> rootBeanClass,
@@ -1491,34 +1562,20 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
             AnnotatedElement constrainedProperty,
             Class propertyType,
             @Nullable Object propertyValue,
-            Class<? extends Annotation> constraintType) {
+            PropertyConstraint constraint) {
         final AnnotationMetadata annotationMetadata = constrainedProperty
                 .getAnnotationMetadata();
-        final List<? extends AnnotationValue<? extends Annotation>> annotationValues = annotationMetadata
-                .getAnnotationValuesByType(constraintType);
-
-        Set<AnnotationValue<? extends Annotation>> constraints = new HashSet<>(3);
-        for (Class<?> group : context.groups) {
-            for (AnnotationValue<? extends Annotation> annotationValue : annotationValues) {
-                final Class<?>[] classValues = annotationValue.classValues("groups");
-                if (ArrayUtils.isEmpty(classValues)) {
-                    if (context.groups == DEFAULT_GROUPS || group == Default.class) {
-                        constraints.add(annotationValue);
-                    }
-                } else {
-                    final List<Class> constraintGroups = Arrays.asList(classValues);
-                    if (constraintGroups.contains(group)) {
-                        constraints.add(annotationValue);
-                    }
-                }
-            }
-        }
+        final Class<? extends Annotation> constraintType = constraint.constraintType;
 
-        @SuppressWarnings("unchecked") final Class<Object> targetType = propertyValue != null ? (Class<Object>) propertyValue.getClass() : propertyType;
-        final ConstraintValidator<? extends Annotation, Object> validator = constraintValidatorRegistry
-                .findConstraintValidator(constraintType, targetType).orElse(null);
+        final ConstraintValidator<? extends Annotation, Object> validator;
+        if (propertyValue != null && propertyValue.getClass() == constraint.valueType) {
+            validator = constraint.validator;
+        } else {
+            @SuppressWarnings("unchecked") final Class<Object> targetType = propertyValue != null ? (Class<Object>) propertyValue.getClass() : propertyType;
+            validator = constraintValidatorRegistry.findConstraintValidator(constraintType, targetType).orElse(null);
+        }
         if (validator != null) {
-            for (AnnotationValue annotationValue : constraints) {
+            for (AnnotationValue annotationValue : constraint.annotationValues) {
                 //noinspection unchecked
                 if (!validator.isValid(propertyValue, annotationValue, context)) {
 
@@ -2377,4 +2434,88 @@ public class DefaultValidator implements Validator, ExecutableMethodValidator, R
             return this;
         }
     }
+
+    /**
+     * The constrained and cascaded properties and the type level constraints of an introspection.
+     */
+    private static final class IntrospectionConstraints {
+        final Collection<BeanProperty<Object, Object>> constrainedProperties;
+        final Collection<BeanProperty<Object, Object>> cascadeProperties;
+        final List<Class<? extends Annotation>> pojoConstraints;
+
+        IntrospectionConstraints(Collection<BeanProperty<Object, Object>> constrainedProperties,
+                                 Collection<BeanProperty<Object, Object>> cascadeProperties,
+                                 List<Class<? extends Annotation>> pojoConstraints) {
+            this.constrainedProperties = constrainedProperties;
+            this.cascadeProperties = cascadeProperties;
+            this.pojoConstraints = pojoConstraints;
+        }
+
+        boolean isConstrained() {
+            return CollectionUtils.isNotEmpty(constrainedProperties)
+                    || CollectionUtils.isNotEmpty(cascadeProperties)
+                    || CollectionUtils.isNotEmpty(pojoConstraints);
+        }
+    }
+
+    /**
+     * The constraints of one type on an element that apply to the validated groups, and the validator for the values
+     * of the given type.
+     */
+    private static final class PropertyConstraint {
+        final Class<? extends Annotation> constraintType;
+        final List<AnnotationValue<? extends Annotation>> annotationValues;
+        final @Nullable Class<?> valueType;
+        final @Nullable ConstraintValidator<? extends Annotation, Object> validator;
+
+        PropertyConstraint(Class<? extends Annotation> constraintType,
+                           List<AnnotationValue<? extends Annotation>> annotationValues,
+                           @Nullable Class<?> valueType,
+                           @Nullable ConstraintValidator<? extends Annotation, Object> validator) {
+            this.constraintType = constraintType;
+            this.annotationValues = annotationValues;
+            this.valueType = valueType;
+            this.validator = validator;
+        }
+    }
+
+    /**
+     * Identifies the constraints of a property for the validated groups. Introspections may be loaded again for
+     * every lookup, so the property is identified by its declaring type, type and name rather than by instance.
+     */
+    private static final class PropertyConstraintsKey {
+        final Class<?> beanType;
+        final Class<?> type;
+        final String name;
+        final List<Class> groups;
+        final int hashCode;
+
+        PropertyConstraintsKey(BeanProperty<?, ?> property, List<Class> groups) {
+            this.beanType = property.getDeclaringType();
+            this.type = property.getType();
+            this.name = property.getName();
+            this.groups = groups;
+            this.hashCode = 31 * Objects.hash(beanType, type, name) + groups.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PropertyConstraintsKey)) {
+                return false;
+            }
+            PropertyConstraintsKey that = (PropertyConstraintsKey) o;
+            return beanType == that.beanType &&
+                    type == that.type &&
+                    name.equals(that.name) &&
+                    groups.equals(that.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -22,7 +22,6 @@ import javax.validation.ValidationException;
 import javax.validation.constraints.Pattern;
 import java.lang.annotation.Annotation;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.PatternSyntaxException;
@@ -112,7 +111,7 @@ abstract class AbstractPatternValidator<A extends Annotation> implements Constra
 
         @Override
         public int hashCode() {
-            return Objects.hash(pattern, flags);
+            return 31 * pattern.hashCode() + flags;
         }
     }
 }
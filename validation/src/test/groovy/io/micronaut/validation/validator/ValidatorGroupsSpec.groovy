@@ -74,6 +74,32 @@ class ValidatorGroupsSpec extends AbstractTypeElementSpec {
         properties.contains("city")
     }
 
+    void "test validate reusing a groups array"() {
+        given:
+        def address = new AddressTwo(street: "", city: "", zipCode: "")
+        Class<?>[] groups = [GroupOne] as Class<?>[]
+
+        when:
+        def violations = validator.validate(address, groups)
+
+        then:
+        violations*.propertyPath*.toString() as Set == ["zipCode", "street"] as Set
+
+        when:
+        groups[0] = Default
+        violations = validator.validate(address, groups)
+
+        then:
+        violations*.propertyPath*.toString() as Set == ["zipCode", "city"] as Set
+
+        when:
+        groups[0] = GroupOne
+        violations = validator.validate(address, groups)
+
+        then:
+        violations*.propertyPath*.toString() as Set == ["zipCode", "street"] as Set
+    }
+
     void "test build introspection"() {
         given:
         def introspection = buildBeanIntrospection('test.Address', '''
@@ -94,6 +94,25 @@ class ValidatorSpec extends Specification {
         violations[0].constraintDescriptor.annotation instanceof NotBlank
     }
 
+    void "test repeated property validation reuses the cached constraints"() {
+        given:
+        DefaultValidator defaultValidator = (DefaultValidator) validator
+        Book b = new Book(title: "", pages: 50)
+        validator.validateProperty(b, "title")
+        validator.validateValue(Book, "title", "")
+        int cached = defaultValidator.propertyConstraints.size()
+
+        when:
+        10.times {
+            validator.validateProperty(b, "title")
+            validator.validateValue(Book, "title", "")
+        }
+
+        then:
+        cached > 0
+        defaultValidator.propertyConstraints.size() == cached
+    }
+
     void "test cascade to bean"() {
         given:
         Book b = new Book(title: "The Stand", pages: 1000, primaryAuthor: new Author(age: 150), authors: [new Author(name: "Stephen King", age: 50)])